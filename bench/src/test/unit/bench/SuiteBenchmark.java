@@ -0,0 +1,47 @@
+package test.unit.bench;
+
+import org.openjdk.jmh.annotations.*;
+import test.unit.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a full {@link TestSuite#run(Config)} of a large suite of trivial {@link Equal} tests,
+ * with output discarded, to track the per-test cost of the framework at scale.
+ * See {@link TestKindBenchmark} for how benchmarks are run.
+ *
+ * @author Pepe Gallardo & Gemini
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SuiteBenchmark {
+
+    /** The number of tests in the suite. */
+    @Param({"10000"})
+    public int tests;
+
+    private TestSuite suite;
+    private Config config;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<SuiteItem> items = new ArrayList<>(tests);
+        for (int i = 0; i < tests; i++) {
+            int value = i;
+            items.add(TestFactory.equal("test " + i, () -> value, value));
+        }
+        suite = new TestSuite("Benchmark suite", items);
+        config = Config.withLogger(new Logger.SilentLogger(), Config.DEFAULT);
+    }
+
+    @Benchmark
+    public Results run() {
+        return suite.run(config);
+    }
+}
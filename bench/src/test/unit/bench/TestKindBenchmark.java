@@ -0,0 +1,90 @@
+package test.unit.bench;
+
+import org.openjdk.jmh.annotations.*;
+import test.unit.*;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the overhead the framework adds to a single test whose body does no work, for each kind of test,
+ * when its output is discarded ({@link Logger.SilentLogger}) and when it is printed ({@link Logger.ConsoleLogger}).
+ * <p>
+ * As the bodies are trivial, the scores are the cost of the framework itself: handing the body over to the
+ * {@link TestExecutor} and waiting for it, building the per-test {@link Config}, formatting localized messages
+ * and, for the console logger, capitalizing and printing them. The console logger writes to a discarding stream,
+ * so that the cost of the terminal is not measured.
+ * <p>
+ * Benchmarks are run with JMH: {@code mvn -B package} in the {@code bench} directory builds the library and the
+ * benchmarks into {@code target/benchmarks.jar}, and scores can be saved for comparison between builds with
+ * {@code java -jar target/benchmarks.jar -rf json -rff results.json}.
+ *
+ * @author Pepe Gallardo & Gemini
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TestKindBenchmark {
+
+    /** The logger the tests are run with. */
+    @Param({"silent", "console"})
+    public String logger;
+
+    private PrintStream originalOut;
+    private Config config;
+
+    private Test equal;
+    private Test property;
+    private Test exceptionOneOf;
+    private Test exceptionExcept;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        originalOut = System.out;
+        // ConsoleLogger binds System.out when created, so it must be redirected first
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        config = switch (logger) {
+            case "silent" -> Config.withLogger(new Logger.SilentLogger(), Config.DEFAULT);
+            case "console" -> Config.withLogger(new Logger.ConsoleLogger(), Config.DEFAULT);
+            default -> throw new IllegalArgumentException("Unknown logger: " + logger);
+        };
+
+        equal = TestFactory.equal("equal", () -> 1, 1);
+        property = TestFactory.property("property", () -> 1, x -> x > 0);
+        exceptionOneOf = TestFactory.expectException("exceptionOneOf", () -> {
+            throw new IllegalStateException();
+        }, IllegalStateException.class);
+        exceptionExcept = TestFactory.expectExceptionExcept("exceptionExcept", () -> {
+            throw new IllegalStateException();
+        }, UnsupportedOperationException.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.setOut(originalOut);
+    }
+
+    @Benchmark
+    public TestResult equal() {
+        return equal.run(config);
+    }
+
+    @Benchmark
+    public TestResult property() {
+        return property.run(config);
+    }
+
+    @Benchmark
+    public TestResult exceptionOneOf() {
+        return exceptionOneOf.run(config);
+    }
+
+    @Benchmark
+    public TestResult exceptionExcept() {
+        return exceptionExcept.run(config);
+    }
+}
@@ -1,5 +1,6 @@
 import test.unit.*; // Import the testing library classes
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.BiPredicate;
@@ -127,7 +128,7 @@ public class Example {
     Test quickTest = TestFactory.assertTest(
         /* name */ "Quick Calculation",
         /* toEvaluate */ () -> Math.pow(2, 10) == 1024,
-        /* timeoutOverride */ Optional.of(1) // Set explicit 1 second timeout override
+        /* timeoutOverride */ Optional.of(Duration.ofSeconds(1)) // Set explicit 1 second timeout override
     );
 
 
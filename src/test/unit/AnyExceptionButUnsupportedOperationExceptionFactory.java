@@ -1,5 +1,6 @@
 package test.unit;
 
+import java.time.Duration;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
@@ -37,7 +38,7 @@ public final class AnyExceptionButUnsupportedOperationExceptionFactory {
      * @param expectedMessage If present, the thrown exception's message must match exactly. Takes priority over `messagePredicate`.
      * @param messagePredicate If `expectedMessage` is empty, this predicate is applied to the message. Defaults to always true.
      * @param predicateHelp If `messagePredicate` is used, provides a human-readable description.
-     * @param timeoutOverride An optional duration in seconds to override the default test timeout.
+     * @param timeoutOverride An optional duration to override the default test timeout.
      * @param <T> The return type of the `toEvaluate` supplier.
      * @return An {@code ExceptionExcept<T, UnsupportedOperationException>} test instance configured as specified.
      */
@@ -48,7 +49,7 @@ public final class AnyExceptionButUnsupportedOperationExceptionFactory {
             Optional<String> expectedMessage,
             Predicate<String> messagePredicate,
             Optional<String> predicateHelp,
-            Optional<Integer> timeoutOverride) {
+            Optional<Duration> timeoutOverride) {
         // Delegate directly to ExceptionExcept's base factory method
         return ExceptionExcept.create(
                 name,
@@ -145,7 +146,7 @@ public final class AnyExceptionButUnsupportedOperationExceptionFactory {
              Supplier<T> toEvaluate,
              String expectedMessage,
              int timeoutOverride) {
-          return create(name, toEvaluate, defaultMkString(), Optional.of(expectedMessage), ExceptionBy.DEFAULT_MSG_PREDICATE, Optional.empty(), Optional.of(timeoutOverride));
+          return create(name, toEvaluate, defaultMkString(), Optional.of(expectedMessage), ExceptionBy.DEFAULT_MSG_PREDICATE, Optional.empty(), Optional.of(Duration.ofSeconds(timeoutOverride)));
       }
 
       /** Creates test expecting not UnsupportedOperationException, *predicate*, help text, and timeout. */
@@ -155,7 +156,7 @@ public final class AnyExceptionButUnsupportedOperationExceptionFactory {
               Predicate<String> messagePredicate,
               String predicateHelp,
               int timeoutOverride) {
-          return create(name, toEvaluate, defaultMkString(), Optional.empty(), messagePredicate, Optional.of(predicateHelp), Optional.of(timeoutOverride));
+          return create(name, toEvaluate, defaultMkString(), Optional.empty(), messagePredicate, Optional.of(predicateHelp), Optional.of(Duration.ofSeconds(timeoutOverride)));
       }
 
       /** Creates test expecting not UnsupportedOperationException (any message) and timeout. */
@@ -163,7 +164,7 @@ public final class AnyExceptionButUnsupportedOperationExceptionFactory {
               String name,
               Supplier<T> toEvaluate,
               int timeoutOverride) {
-           return create(name, toEvaluate, defaultMkString(), Optional.empty(), ExceptionBy.DEFAULT_MSG_PREDICATE, Optional.empty(), Optional.of(timeoutOverride));
+           return create(name, toEvaluate, defaultMkString(), Optional.empty(), ExceptionBy.DEFAULT_MSG_PREDICATE, Optional.empty(), Optional.of(Duration.ofSeconds(timeoutOverride)));
        }
 
        /** Creates test expecting not UnsupportedOperationException, *predicate* (no help), and timeout. */
@@ -172,6 +173,6 @@ public final class AnyExceptionButUnsupportedOperationExceptionFactory {
               Supplier<T> toEvaluate,
               Predicate<String> messagePredicate,
               int timeoutOverride) {
-          return create(name, toEvaluate, defaultMkString(), Optional.empty(), messagePredicate, Optional.empty(), Optional.of(timeoutOverride));
+          return create(name, toEvaluate, defaultMkString(), Optional.empty(), messagePredicate, Optional.empty(), Optional.of(Duration.ofSeconds(timeoutOverride)));
       }
 }
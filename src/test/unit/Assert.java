@@ -1,5 +1,6 @@
 package test.unit;
 
+import java.time.Duration;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Supplier;
@@ -17,14 +18,14 @@ public class Assert extends Property<Boolean> {
      */
     private Assert(String name,
                   Supplier<Boolean> toEvaluate,
-                  Optional<Integer> timeoutOverride) {
+                  Optional<Duration> timeoutOverride) {
         super(name,
               toEvaluate,
               result -> result != null && result, // Property: value must be non-null true
               Optional.empty(), // Use key-based mkString
-              Optional.of(v -> "property.was." + v), // mkStringKey: "property.was.true" or "property.was.false"
+              Optional.of(v -> (v != null && v) ? Message.PROPERTY_WAS_TRUE : Message.PROPERTY_WAS_FALSE), // mkStringKey
               Optional.empty(), // Use key-based help
-              Optional.of("property.must.be.true"), // helpKey
+              Optional.of(Message.PROPERTY_MUST_BE_TRUE), // helpKey
               timeoutOverride);
          Objects.requireNonNull(toEvaluate, "Supplier 'toEvaluate' cannot be null");
     }
@@ -36,12 +37,12 @@ public class Assert extends Property<Boolean> {
      *
      * @param name The descriptive name of the test case.
      * @param toEvaluate The supplier providing the boolean expression. Must evaluate to `true` to pass.
-     * @param timeoutOverride Optional duration in seconds to override the default timeout.
+     * @param timeoutOverride Optional duration to override the default timeout.
      * @return An {@link Assert} test instance.
      */
     public static Assert create(String name,
                                 Supplier<Boolean> toEvaluate,
-                                Optional<Integer> timeoutOverride) {
+                                Optional<Duration> timeoutOverride) {
         return new Assert(name, toEvaluate, timeoutOverride);
     }
 
@@ -52,6 +53,6 @@ public class Assert extends Property<Boolean> {
     public static Assert create(String name,
                                 Supplier<Boolean> toEvaluate,
                                 int timeoutOverride) {
-        return create(name, toEvaluate, Optional.of(timeoutOverride));
+        return create(name, toEvaluate, Optional.of(Duration.ofSeconds(timeoutOverride)));
     }
 }
@@ -0,0 +1,125 @@
+package test.unit;
+
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * The expression evaluated by an asynchronous test: a supplier of a {@link CompletionStage} of the value, rather than of
+ * the value itself. Built by the {@code ...Async} methods of {@link TestFactory}.
+ * <p>
+ * It is passed as the {@code toEvaluate} supplier of the usual test classes (e.g., {@link EqualBy}, {@link Property},
+ * {@link ExceptionBy}), which recognize it in {@link #submit(Config, Supplier, Function, Function)} and then wait for
+ * the stage without blocking any thread, applying their timeout to the stage. A stage completed exceptionally is
+ * treated exactly as if the expression had thrown the cause of the failure. Called as a plain supplier, it waits for
+ * the stage and returns its value or throws that cause.
+ *
+ * @param stage Starts the asynchronous computation and returns the stage of its value.
+ * @param <T> The type of the value produced by the stage.
+ * @author Pepe Gallardo & Gemini
+ */
+record AsyncEvaluation<T>(Supplier<? extends CompletionStage<T>> stage) implements Supplier<T> {
+
+    /**
+     * Canonical constructor with validations. This is invoked automatically.
+     */
+    AsyncEvaluation {
+        Objects.requireNonNull(stage, "Supplier 'stage' cannot be null");
+    }
+
+    /**
+     * Waits for the stage and returns its value.
+     * If it failed, the cause of the failure is thrown as is, even if it is a checked exception.
+     */
+    @Override
+    public T get() {
+        try {
+            return start().toCompletableFuture().get();
+        } catch (ExecutionException e) {
+            throw sneakyThrow(e.getCause() != null ? e.getCause() : e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw sneakyThrow(e);
+        }
+    }
+
+    /**
+     * Submits the evaluation of {@code toEvaluate}, and the check of its outcome, to the {@link TestExecutor} of the config.
+     * <p>
+     * If {@code toEvaluate} is an {@link AsyncEvaluation}, its stage is started on the executor and checked when it
+     * completes, through {@link TestExecutor#submitStage(Supplier, java.time.Duration)}. Otherwise, the value is evaluated
+     * and checked on a worker, through {@link TestExecutor#submit(Supplier, java.time.Duration)}. Either way, the
+     * timeout of the config applies.
+     *
+     * @param config The configuration of the test, providing the executor and the timeout.
+     * @param toEvaluate The expression of the test.
+     * @param onValue Checks the value produced by the expression.
+     * @param onThrown Checks the exception thrown by the expression, or by {@code onValue}.
+     * @param <T> The type of the value produced by the expression.
+     * @return The future of the result of the check, as returned by the executor.
+     */
+    static <T> CompletableFuture<TestResult> submit(Config config,
+                                                    Supplier<T> toEvaluate,
+                                                    Function<? super T, TestResult> onValue,
+                                                    Function<Throwable, TestResult> onThrown) {
+        if (toEvaluate instanceof AsyncEvaluation<T> async) {
+            return config.executor().submitStage(() -> async.check(onValue, onThrown), config.timeout());
+        }
+        return config.executor().submit(() -> {
+            try {
+                return onValue.apply(toEvaluate.get());
+            } catch (Throwable t) {
+                if (t instanceof InterruptedException) {
+                    Thread.currentThread().interrupt(); // Preserve the interrupt status of the worker
+                }
+                return onThrown.apply(t);
+            }
+        }, config.timeout());
+    }
+
+    // Starts the stage and checks its outcome once it completes, on whichever thread completes it.
+    // Cancelling the check, as StageTask does on a timeout, cancels the stage of the expression too
+    private CompletionStage<TestResult> check(Function<? super T, TestResult> onValue, Function<Throwable, TestResult> onThrown) {
+        CompletionStage<T> started;
+        try {
+            started = start();
+        } catch (Throwable t) { // Thrown before any stage existed, just like a synchronous expression
+            return CompletableFuture.completedFuture(onThrown.apply(t));
+        }
+        CompletionStage<TestResult> checked = started.handle((value, failure) -> {
+            if (failure != null) {
+                return onThrown.apply(unwrap(failure));
+            }
+            try {
+                return onValue.apply(value);
+            } catch (Throwable t) {
+                return onThrown.apply(t);
+            }
+        });
+        checked.whenComplete((result, failure) -> {
+            if (failure instanceof CancellationException) {
+                StageTask.cancel(started);
+            }
+        });
+        return checked;
+    }
+
+    private CompletionStage<T> start() {
+        return Objects.requireNonNull(stage.get(), "The asynchronous expression returned a null stage");
+    }
+
+    // Stages report the failures of dependent stages wrapped in a CompletionException
+    private static Throwable unwrap(Throwable failure) {
+        return (failure instanceof CompletionException && failure.getCause() != null) ? failure.getCause() : failure;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E extends Throwable> RuntimeException sneakyThrow(Throwable t) throws E {
+        throw (E) t;
+    }
+}
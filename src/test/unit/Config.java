@@ -1,8 +1,14 @@
 package test.unit;
 
-import java.util.Locale;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.MissingFormatArgumentException;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.function.UnaryOperator;
 
 /**
  * Holds configuration settings for running tests, including the logger,
@@ -12,15 +18,54 @@ import java.util.Objects;
  *
  * @param logger The {@link Logger} implementation to use for outputting test progress and results.
  * @param language The {@link Language} used for localizing messages from the {@link I18n} resource bundle.
- * @param timeout The default timeout duration in seconds for individual tests, used when a test doesn't specify its own `timeoutOverride`.
+ * @param timeout The default timeout duration for individual tests, used when a test doesn't specify its own `timeoutOverride`.
+ *                It may be shorter than a second.
  * @param csvOutput Whether to output results in CSV format.
+ * @param parallelism The maximum number of {@link Test} items of a {@link TestSuite} that may run concurrently.
+ *                    A value of {@code 1} runs them sequentially. Output and results are always reported in declaration order.
+ * @param suiteParallelism The maximum number of suites that {@link TestSuite#runAll(Config, TestSuite...)} may run concurrently.
+ *                         A value of {@code 1} runs them sequentially. Output and results are always reported in suite order.
+ * @param executor The {@link TestExecutor} on which the bodies of timeout-guarded tests are evaluated.
+ * @param slowestTests The number of slowest tests, across all suites, listed with their timings by
+ *                     {@link TestSuite#runAll(Config, TestSuite...)}. A value of {@code 0} lists none.
+ * @param suiteBudget The optional total time allowed for running each {@link TestSuite}. Once it is exhausted,
+ *                    running tests are stopped and the remaining ones are reported as
+ *                    {@link TestResult.BudgetExhaustedFailure} without being executed.
+ * @param batching Whether consecutive tests of a {@link TestSuite} are grouped into batches, each one run back to back
+ *                 by a single task of the {@code executor}. Each test keeps its own timeout, and the size of the batches
+ *                 adapts to the measured duration of the tests, so suites of many cheap tests run much faster.
+ * @param suiteMaxFailures The optional number of failed tests after which the rest of a {@link TestSuite} is skipped.
+ *                         Once it is reached, running tests are cancelled and they, along with the tests not started
+ *                         yet, are reported as {@link TestResult.Skipped}.
+ * @param runMaxFailures The optional number of failed tests, across all the suites of
+ *                       {@link TestSuite#runAll(Config, TestSuite...)}, after which the rest of the run is skipped
+ *                       in the same way. A value of {@code 1} makes the run fail fast.
+ * @param historyFile The optional file where the durations and failures of tests are kept from run to run. When present,
+ *                    the tests of a {@link TestSuite} are started in the order that should reveal failures earliest,
+ *                    rather than in declaration order. Output and results are still reported in declaration order.
+ * @param shard The optional {@link Shard} of the run to which {@link TestSuite#runAll(Config, TestSuite...)} is
+ *              restricted. When present, only the tests of that shard are run, and their results are saved for
+ *              {@link TestSuite#mergeShards(Config, Path...)}.
+ * @param listeners The {@link TestListener}s told about the suites and tests of a run as they start and finish.
+ *                  They are called on a thread of their own, so they never slow down the tests.
  * @author Pepe Gallardo & Gemini
  */
 public record Config(
         Logger logger,
         Language language,
-        int timeout,
-        boolean csvOutput
+        Duration timeout,
+        boolean csvOutput,
+        int parallelism,
+        int suiteParallelism,
+        TestExecutor executor,
+        int slowestTests,
+        Optional<Duration> suiteBudget,
+        boolean batching,
+        Optional<Integer> suiteMaxFailures,
+        Optional<Integer> runMaxFailures,
+        Optional<Path> historyFile,
+        Optional<Shard> shard,
+        List<TestListener> listeners
 ) {
     // Default constructor is provided by the record
 
@@ -30,9 +75,53 @@ public record Config(
     public Config {
         Objects.requireNonNull(logger, "logger cannot be null");
         Objects.requireNonNull(language, "language cannot be null");
-        if (timeout <= 0) {
+        Objects.requireNonNull(executor, "executor cannot be null");
+        Objects.requireNonNull(timeout, "timeout cannot be null");
+        Objects.requireNonNull(suiteBudget, "suiteBudget Optional cannot be null");
+        Objects.requireNonNull(suiteMaxFailures, "suiteMaxFailures Optional cannot be null");
+        Objects.requireNonNull(runMaxFailures, "runMaxFailures Optional cannot be null");
+        Objects.requireNonNull(historyFile, "historyFile Optional cannot be null");
+        Objects.requireNonNull(shard, "shard Optional cannot be null");
+        Objects.requireNonNull(listeners, "listeners cannot be null");
+        listeners = List.copyOf(listeners); // Also rejects null listeners
+        if (timeout.isNegative() || timeout.isZero()) {
             throw new IllegalArgumentException("timeout must be positive");
         }
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism must be positive");
+        }
+        if (suiteParallelism <= 0) {
+            throw new IllegalArgumentException("suiteParallelism must be positive");
+        }
+        if (slowestTests < 0) {
+            throw new IllegalArgumentException("slowestTests cannot be negative");
+        }
+        suiteBudget.ifPresent(budget -> {
+            if (budget.isNegative() || budget.isZero()) {
+                throw new IllegalArgumentException("suiteBudget must be positive if present");
+            }
+        });
+        if (suiteMaxFailures.filter(max -> max <= 0).isPresent()) {
+            throw new IllegalArgumentException("suiteMaxFailures must be positive if present");
+        }
+        if (runMaxFailures.filter(max -> max <= 0).isPresent()) {
+            throw new IllegalArgumentException("runMaxFailures must be positive if present");
+        }
+    }
+
+    /**
+     * Constructor for sequential runs on the default {@link TestExecutor}, with no suite budget, no batching,
+     * no limit of failures, no history, no sharding and no listeners.
+     */
+    public Config(Logger logger, Language language, Duration timeout, boolean csvOutput) {
+        this(logger, language, timeout, csvOutput, 1, 1, TestExecutor.DEFAULT, 0, Optional.empty(), false, Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(), List.of());
+    }
+
+    /**
+     * Constructor keeping the original four-component form, with the timeout given in seconds.
+     */
+    public Config(Logger logger, Language language, int timeout, boolean csvOutput) {
+        this(logger, language, Duration.ofSeconds(timeout), csvOutput);
     }
 
     /**
@@ -44,32 +133,170 @@ public record Config(
 
 
     /**
-     * Retrieves a localized message pattern for the given key and language,
+     * Creates a copy of this configuration with some of its components changed.
+     * This is what the {@code withX} factories are built on, so that adding a component only takes
+     * a field and a setter in {@link Builder}.
+     *
+     * @param change The changes to make, given a builder initialized with the components of this configuration.
+     * @return The new configuration.
+     */
+    Config with(UnaryOperator<Builder> change) {
+        return change.apply(new Builder(this)).build();
+    }
+
+    /**
+     * Collects the components of a {@link Config} being derived from another one. See {@link #with(UnaryOperator)}.
+     */
+    static final class Builder {
+        private Logger logger;
+        private Language language;
+        private Duration timeout;
+        private boolean csvOutput;
+        private int parallelism;
+        private int suiteParallelism;
+        private TestExecutor executor;
+        private int slowestTests;
+        private Optional<Duration> suiteBudget;
+        private boolean batching;
+        private Optional<Integer> suiteMaxFailures;
+        private Optional<Integer> runMaxFailures;
+        private Optional<Path> historyFile;
+        private Optional<Shard> shard;
+        private List<TestListener> listeners;
+
+        private Builder(Config base) {
+            this.logger = base.logger;
+            this.language = base.language;
+            this.timeout = base.timeout;
+            this.csvOutput = base.csvOutput;
+            this.parallelism = base.parallelism;
+            this.suiteParallelism = base.suiteParallelism;
+            this.executor = base.executor;
+            this.slowestTests = base.slowestTests;
+            this.suiteBudget = base.suiteBudget;
+            this.batching = base.batching;
+            this.suiteMaxFailures = base.suiteMaxFailures;
+            this.runMaxFailures = base.runMaxFailures;
+            this.historyFile = base.historyFile;
+            this.shard = base.shard;
+            this.listeners = base.listeners;
+        }
+
+        Builder logger(Logger logger) { this.logger = logger; return this; }
+        Builder language(Language language) { this.language = language; return this; }
+        Builder timeout(Duration timeout) { this.timeout = timeout; return this; }
+        Builder csvOutput(boolean csvOutput) { this.csvOutput = csvOutput; return this; }
+        Builder parallelism(int parallelism) { this.parallelism = parallelism; return this; }
+        Builder suiteParallelism(int suiteParallelism) { this.suiteParallelism = suiteParallelism; return this; }
+        Builder executor(TestExecutor executor) { this.executor = executor; return this; }
+        Builder slowestTests(int slowestTests) { this.slowestTests = slowestTests; return this; }
+        Builder suiteBudget(Optional<Duration> suiteBudget) { this.suiteBudget = suiteBudget; return this; }
+        Builder batching(boolean batching) { this.batching = batching; return this; }
+        Builder suiteMaxFailures(Optional<Integer> suiteMaxFailures) { this.suiteMaxFailures = suiteMaxFailures; return this; }
+        Builder runMaxFailures(Optional<Integer> runMaxFailures) { this.runMaxFailures = runMaxFailures; return this; }
+        Builder historyFile(Optional<Path> historyFile) { this.historyFile = historyFile; return this; }
+        Builder shard(Optional<Shard> shard) { this.shard = shard; return this; }
+        Builder listeners(List<TestListener> listeners) { this.listeners = listeners; return this; }
+
+        /** Creates the configuration, validated by the canonical constructor. */
+        Config build() {
+            return new Config(logger, language, timeout, csvOutput, parallelism, suiteParallelism, executor, slowestTests,
+                              suiteBudget, batching, suiteMaxFailures, runMaxFailures, historyFile, shard, listeners);
+        }
+    }
+
+    /**
+     * Retrieves the localized message pattern of the given message for the language,
      * then formats it using the provided arguments.
      * <p>
-     * It uses {@code java.lang.String.format} with the {@code ROOT} locale for consistent
-     * formatting behavior regardless of the system's default locale.
+     * It formats as {@code java.lang.String.format} with the {@code ROOT} locale would, for consistent
+     * formatting behavior regardless of the system's default locale, but using the pattern as compiled
+     * once by {@link I18n}.
      *
-     * @param key The key identifying the message pattern in the {@link I18n} resource bundle (e.g., "test.passed").
+     * @param message The message to format (e.g., {@link Message#EXPECTED_RESULT}).
+     * @param args The arguments to be substituted into the message pattern placeholders (e.g., %s, %d).
+     * @return The formatted, localized message string.
+     *         If a formatting error occurs (e.g., missing arguments), an error message string is returned.
+     */
+    public String msg(Message message, Object... args) {
+        MessageTemplate template = I18n.getTemplate(message, this.language);
+        if (args == null || args.length == 0) {
+            return template.pattern();
+        }
+        // Room for the pattern and typical arguments, so that the builder seldom grows
+        return render(new StringBuilder(template.pattern().length() + 16 * args.length), message.key(), template, args)
+                .toString();
+    }
+
+    /**
+     * Same as {@link #msg(Message, Object...)}, but appends the message to a given builder instead of returning it,
+     * so that longer texts can be composed without intermediate strings.
+     *
+     * @param out The builder the message is appended to.
+     * @param message The message to format.
+     * @param args The arguments to be substituted into the message pattern placeholders.
+     * @return The builder {@code out}.
+     */
+    public StringBuilder appendMsg(StringBuilder out, Message message, Object... args) {
+        MessageTemplate template = I18n.getTemplate(message, this.language);
+        if (args == null || args.length == 0) {
+            return out.append(template.pattern());
+        }
+        return render(out, message.key(), template, args);
+    }
+
+    /**
+     * Same as {@link #msg(Message, Object...)}, for the message with the given key.
+     * Keys that are not those of any {@link Message} are formatted as patterns themselves.
+     *
+     * @param key The key identifying the message pattern in the {@link I18n} resource bundle (e.g., "expected.result").
      * @param args The arguments to be substituted into the message pattern placeholders (e.g., %s, %d).
      * @return The formatted, localized message string.
      *         If a formatting error occurs (e.g., missing arguments), an error message string is returned.
      */
     public String msg(String key, Object... args) {
-        String pattern = I18n.getMessage(key, this.language);
+        Optional<Message> message = Message.byKey(key);
+        if (message.isPresent()) {
+            return msg(message.get(), args);
+        }
         if (args == null || args.length == 0) {
-            return pattern;
+            return key;
         }
+        return render(new StringBuilder(), key, MessageTemplate.compile(key), args).toString();
+    }
+
+    // Renders the template of a key, or the error message, which replaces anything rendered before an error
+    private StringBuilder render(StringBuilder out, String key, MessageTemplate template, Object[] args) {
+        int start = out.length();
         try {
-            // Use Locale.ROOT for consistent formatting regardless of the system's locale
-            return String.format(Locale.ROOT, pattern, args);
+            template.renderTo(out, args);
         } catch (MissingFormatArgumentException e) {
-            return String.format("ERROR: Formatting error for key '%s' [%s]: %s. Pattern: '%s', Args: %s",
-                    key, this.language.toString().toLowerCase(), e.getMessage(), pattern, java.util.Arrays.toString(args));
+            out.setLength(start);
+            out.append(String.format("ERROR: Formatting error for key '%s' [%s]: %s. Pattern: '%s', Args: %s",
+                    key, this.language.toString().toLowerCase(), e.getMessage(), template.pattern(), java.util.Arrays.toString(args)));
         } catch (Exception e) { // Catch other potential formatting exceptions
-            return String.format("ERROR: Generic formatting error for key '%s' [%s]: %s. Pattern: '%s', Args: %s",
-                    key, this.language.toString().toLowerCase(), e.getMessage(), pattern, java.util.Arrays.toString(args));
+            out.setLength(start);
+            out.append(String.format("ERROR: Generic formatting error for key '%s' [%s]: %s. Pattern: '%s', Args: %s",
+                    key, this.language.toString().toLowerCase(), e.getMessage(), template.pattern(), java.util.Arrays.toString(args)));
+        }
+        return out;
+    }
+
+    /**
+     * Formats a duration as a localized message, in whole seconds when possible (e.g., "3 seconds"),
+     * or in milliseconds otherwise (e.g., "250 milliseconds", "0.5 milliseconds").
+     *
+     * @param duration The duration to format. Must not be null.
+     * @return The formatted, localized duration.
+     */
+    public String formatDuration(Duration duration) {
+        Objects.requireNonNull(duration, "duration cannot be null");
+        if (duration.toNanosPart() == 0) {
+            return msg(Message.DURATION_SECONDS, duration.toSeconds());
         }
+        // Exact number of milliseconds, without trailing zeros
+        String millis = BigDecimal.valueOf(duration.toNanos(), 6).stripTrailingZeros().toPlainString();
+        return msg(Message.DURATION_MILLISECONDS, millis);
     }
 
     // --- Static Factories and Defaults ---
@@ -90,7 +317,18 @@ public record Config(
     public static Config withLogging(boolean logging, boolean useAnsi, Config baseConfig) {
         Logger newLogger = !logging ? new Logger.SilentLogger() :
                 useAnsi ? new Logger.AnsiConsoleLogger() : new Logger.ConsoleLogger();
-        return new Config(newLogger, baseConfig.language(), baseConfig.timeout(), baseConfig.csvOutput());
+        return withLogger(newLogger, baseConfig);
+    }
+
+    /**
+     * Creates a new `Config` instance based on an existing one, but with the given logger.
+     *
+     * @param logger The {@link Logger} to use. Must not be null.
+     * @param baseConfig The `Config` instance to use as a base.
+     * @return A new `Config` instance with the specified logger.
+     */
+    public static Config withLogger(Logger logger, Config baseConfig) {
+        return baseConfig.with(builder -> builder.logger(logger));
     }
 
     /** Overload for withLogging using the default configuration as a base. */
@@ -116,7 +354,7 @@ public record Config(
      * @return A new `Config` instance with the specified CSV output setting.
      */
     public static Config withCsvOutput(boolean csvOutput, Config baseConfig) {
-        return new Config(baseConfig.logger(), baseConfig.language(), baseConfig.timeout(), csvOutput);
+        return baseConfig.with(builder -> builder.csvOutput(csvOutput));
     }
 
     /** Overload for withCsvOutput using the default configuration as a base. */
@@ -132,7 +370,7 @@ public record Config(
      * @return A new `Config` instance with the specified language.
      */
     public static Config withLanguage(Language language, Config baseConfig) {
-        return new Config(baseConfig.logger(), language, baseConfig.timeout(), baseConfig.csvOutput());
+        return baseConfig.with(builder -> builder.language(language));
     }
 
     /** Overload for withLanguage using the default configuration as a base. */
@@ -143,16 +381,224 @@ public record Config(
     /**
      * Creates a new `Config` instance based on an existing one, but with a modified timeout.
      *
-     * @param timeout The new timeout in seconds (must be positive).
+     * @param timeout The new timeout (must be positive). Must not be null.
      * @param baseConfig The `Config` instance to use as a base.
      * @return A new `Config` instance with the specified timeout.
      */
-    public static Config withTimeout(int timeout, Config baseConfig) {
-        return new Config(baseConfig.logger(), baseConfig.language(), timeout, baseConfig.csvOutput());
+    public static Config withTimeout(Duration timeout, Config baseConfig) {
+        return baseConfig.with(builder -> builder.timeout(timeout));
     }
 
     /** Overload for withTimeout using the default configuration as a base. */
+    public static Config withTimeout(Duration timeout) {
+        return withTimeout(timeout, DEFAULT);
+    }
+
+    /** Overload for withTimeout with the timeout given in seconds (must be positive). */
+    public static Config withTimeout(int timeout, Config baseConfig) {
+        return withTimeout(Duration.ofSeconds(timeout), baseConfig);
+    }
+
+    /** Overload for withTimeout with the timeout given in seconds, using the default configuration as a base. */
     public static Config withTimeout(int timeout) {
         return withTimeout(timeout, DEFAULT);
     }
-}
\ No newline at end of file
+
+    /**
+     * Creates a new `Config` instance based on an existing one, but with a modified parallelism.
+     *
+     * @param parallelism The maximum number of tests of a suite run concurrently (must be positive, {@code 1} is sequential).
+     * @param baseConfig The `Config` instance to use as a base.
+     * @return A new `Config` instance with the specified parallelism.
+     */
+    public static Config withParallelism(int parallelism, Config baseConfig) {
+        return baseConfig.with(builder -> builder.parallelism(parallelism));
+    }
+
+    /** Overload for withParallelism using the default configuration as a base. */
+    public static Config withParallelism(int parallelism) {
+        return withParallelism(parallelism, DEFAULT);
+    }
+
+    /**
+     * Creates a new `Config` instance based on an existing one, but with a modified suite parallelism.
+     *
+     * @param suiteParallelism The maximum number of suites run concurrently by {@code runAll} (must be positive, {@code 1} is sequential).
+     * @param baseConfig The `Config` instance to use as a base.
+     * @return A new `Config` instance with the specified suite parallelism.
+     */
+    public static Config withSuiteParallelism(int suiteParallelism, Config baseConfig) {
+        return baseConfig.with(builder -> builder.suiteParallelism(suiteParallelism));
+    }
+
+    /** Overload for withSuiteParallelism using the default configuration as a base. */
+    public static Config withSuiteParallelism(int suiteParallelism) {
+        return withSuiteParallelism(suiteParallelism, DEFAULT);
+    }
+
+    /**
+     * Creates a new `Config` instance based on an existing one, but with a modified test executor.
+     *
+     * @param executor The {@link TestExecutor} used to evaluate test bodies (e.g., {@code TestExecutor.pooled(8)}). Must not be null.
+     * @param baseConfig The `Config` instance to use as a base.
+     * @return A new `Config` instance with the specified executor.
+     */
+    public static Config withExecutor(TestExecutor executor, Config baseConfig) {
+        return baseConfig.with(builder -> builder.executor(executor));
+    }
+
+    /** Overload for withExecutor using the default configuration as a base. */
+    public static Config withExecutor(TestExecutor executor) {
+        return withExecutor(executor, DEFAULT);
+    }
+
+    /**
+     * Creates a new `Config` instance based on an existing one, but listing the given number of slowest tests
+     * at the end of {@link TestSuite#runAll(Config, TestSuite...)}.
+     *
+     * @param slowestTests The number of slowest tests to list (must not be negative, {@code 0} lists none).
+     * @param baseConfig The `Config` instance to use as a base.
+     * @return A new `Config` instance with the specified number of slowest tests.
+     */
+    public static Config withSlowestTests(int slowestTests, Config baseConfig) {
+        return baseConfig.with(builder -> builder.slowestTests(slowestTests));
+    }
+
+    /** Overload for withSlowestTests using the default configuration as a base. */
+    public static Config withSlowestTests(int slowestTests) {
+        return withSlowestTests(slowestTests, DEFAULT);
+    }
+
+    /**
+     * Creates a new `Config` instance based on an existing one, but with a time budget for each suite.
+     *
+     * @param suiteBudget The total time allowed for running each suite (must be positive). Must not be null.
+     * @param baseConfig The `Config` instance to use as a base.
+     * @return A new `Config` instance with the specified suite budget.
+     */
+    public static Config withSuiteBudget(Duration suiteBudget, Config baseConfig) {
+        Objects.requireNonNull(suiteBudget, "suiteBudget cannot be null");
+        return baseConfig.with(builder -> builder.suiteBudget(Optional.of(suiteBudget)));
+    }
+
+    /** Overload for withSuiteBudget using the default configuration as a base. */
+    public static Config withSuiteBudget(Duration suiteBudget) {
+        return withSuiteBudget(suiteBudget, DEFAULT);
+    }
+
+    /**
+     * Creates a new `Config` instance based on an existing one, but with batching of tests enabled or disabled.
+     *
+     * @param batching {@code true} to run consecutive tests of a suite in batches, {@code false} to run each one as its own task.
+     * @param baseConfig The `Config` instance to use as a base.
+     * @return A new `Config` instance with the specified batching setting.
+     */
+    public static Config withBatching(boolean batching, Config baseConfig) {
+        return baseConfig.with(builder -> builder.batching(batching));
+    }
+
+    /** Overload for withBatching using the default configuration as a base. */
+    public static Config withBatching(boolean batching) {
+        return withBatching(batching, DEFAULT);
+    }
+
+    /**
+     * Creates a new `Config` instance based on an existing one, but skipping the rest of each suite once the given
+     * number of its tests have failed.
+     *
+     * @param suiteMaxFailures The number of failed tests after which the rest of a suite is skipped (must be positive).
+     * @param baseConfig The `Config` instance to use as a base.
+     * @return A new `Config` instance with the specified limit of failures per suite.
+     */
+    public static Config withSuiteMaxFailures(int suiteMaxFailures, Config baseConfig) {
+        return baseConfig.with(builder -> builder.suiteMaxFailures(Optional.of(suiteMaxFailures)));
+    }
+
+    /** Overload for withSuiteMaxFailures using the default configuration as a base. */
+    public static Config withSuiteMaxFailures(int suiteMaxFailures) {
+        return withSuiteMaxFailures(suiteMaxFailures, DEFAULT);
+    }
+
+    /**
+     * Creates a new `Config` instance based on an existing one, but skipping the rest of a run of several suites once
+     * the given number of its tests have failed.
+     *
+     * @param runMaxFailures The number of failed tests after which the rest of the run is skipped (must be positive).
+     * @param baseConfig The `Config` instance to use as a base.
+     * @return A new `Config` instance with the specified limit of failures per run.
+     */
+    public static Config withRunMaxFailures(int runMaxFailures, Config baseConfig) {
+        return baseConfig.with(builder -> builder.runMaxFailures(Optional.of(runMaxFailures)));
+    }
+
+    /** Overload for withRunMaxFailures using the default configuration as a base. */
+    public static Config withRunMaxFailures(int runMaxFailures) {
+        return withRunMaxFailures(runMaxFailures, DEFAULT);
+    }
+
+    /**
+     * Creates a new `Config` instance based on an existing one, but stopping the whole run at the first failed test.
+     * Equivalent to {@code withRunMaxFailures(1, baseConfig)}.
+     *
+     * @param baseConfig The `Config` instance to use as a base.
+     * @return A new `Config` instance that fails fast.
+     */
+    public static Config withFailFast(Config baseConfig) {
+        return withRunMaxFailures(1, baseConfig);
+    }
+
+    /**
+     * Creates a new `Config` instance based on an existing one, but keeping the history of tests in the given file,
+     * which is used to start the tests most likely to fail first.
+     *
+     * @param historyFile The file holding the history. It is created if it does not exist. Must not be null.
+     * @param baseConfig The `Config` instance to use as a base.
+     * @return A new `Config` instance with the specified history file.
+     */
+    public static Config withHistoryFile(Path historyFile, Config baseConfig) {
+        Objects.requireNonNull(historyFile, "historyFile cannot be null");
+        return baseConfig.with(builder -> builder.historyFile(Optional.of(historyFile)));
+    }
+
+    /** Overload for withHistoryFile using the default configuration as a base. */
+    public static Config withHistoryFile(Path historyFile) {
+        return withHistoryFile(historyFile, DEFAULT);
+    }
+
+    /**
+     * Creates a new `Config` instance based on an existing one, but running only the tests of the given shard.
+     *
+     * @param shard The shard to run (e.g., {@code Shard.parse("2/4", Path.of("shard-2.results"))}). Must not be null.
+     * @param baseConfig The `Config` instance to use as a base.
+     * @return A new `Config` instance with the specified shard.
+     */
+    public static Config withShard(Shard shard, Config baseConfig) {
+        Objects.requireNonNull(shard, "shard cannot be null");
+        return baseConfig.with(builder -> builder.shard(Optional.of(shard)));
+    }
+
+    /** Overload for withShard using the default configuration as a base. */
+    public static Config withShard(Shard shard) {
+        return withShard(shard, DEFAULT);
+    }
+
+    /**
+     * Creates a new `Config` instance based on an existing one, also telling the given listener about the run.
+     * The listeners of the base configuration are kept, and called before the new one.
+     *
+     * @param listener The listener to add. Must not be null.
+     * @param baseConfig The `Config` instance to use as a base.
+     * @return A new `Config` instance with the specified listener added.
+     */
+    public static Config withListener(TestListener listener, Config baseConfig) {
+        Objects.requireNonNull(listener, "listener cannot be null");
+        List<TestListener> listeners = new ArrayList<>(baseConfig.listeners());
+        listeners.add(listener);
+        return baseConfig.with(builder -> builder.listeners(listeners));
+    }
+
+    /** Overload for withListener using the default configuration as a base. */
+    public static Config withListener(TestListener listener) {
+        return withListener(listener, DEFAULT);
+    }
+}
@@ -1,5 +1,6 @@
 package test.unit;
 
+import java.time.Duration;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
@@ -23,7 +24,7 @@ public class Equal<T> extends EqualBy<T> {
                     Supplier<T> toEvaluate,
                     T expected,
                     Function<T, String> mkString,
-                    Optional<Integer> timeoutOverride) {
+                    Optional<Duration> timeoutOverride) {
         super(name,
               toEvaluate,
               expected,
@@ -45,7 +46,7 @@ public class Equal<T> extends EqualBy<T> {
      * @param toEvaluate Supplier for the expression to evaluate.
      * @param expected Expected value (compared using {@code Objects.equals}).
      * @param mkString Function to convert `T` to String. Defaults to {@code Objects.toString}.
-     * @param timeoutOverride Optional specific timeout in seconds.
+     * @param timeoutOverride Optional specific timeout.
      * @param <T> Type of the expression and result.
      * @return An `Equal<T>` test instance.
      */
@@ -53,7 +54,7 @@ public class Equal<T> extends EqualBy<T> {
                                       Supplier<T> toEvaluate,
                                       T expected,
                                       Function<T, String> mkString,
-                                      Optional<Integer> timeoutOverride) {
+                                      Optional<Duration> timeoutOverride) {
         return new Equal<>(name, toEvaluate, expected, mkString, timeoutOverride);
     }
 
@@ -75,7 +76,7 @@ public class Equal<T> extends EqualBy<T> {
     public static <T> Equal<T> create(String name,
                                       Supplier<T> toEvaluate,
                                       T expected,
-                                      Optional<Integer> timeoutOverride) {
+                                      Optional<Duration> timeoutOverride) {
         return create(name, toEvaluate, expected, defaultMkString(), timeoutOverride);
     }
 
@@ -83,7 +84,7 @@ public class Equal<T> extends EqualBy<T> {
                                       Supplier<T> toEvaluate,
                                       T expected,
                                       int timeoutOverride) {
-        return create(name, toEvaluate, expected, defaultMkString(), Optional.of(timeoutOverride));
+        return create(name, toEvaluate, expected, defaultMkString(), Optional.of(Duration.ofSeconds(timeoutOverride)));
     }
 
      public static <T> Equal<T> create(String name,
@@ -91,6 +92,6 @@ public class Equal<T> extends EqualBy<T> {
                                        T expected,
                                        Function<T, String> mkString,
                                        int timeoutOverride) {
-         return create(name, toEvaluate, expected, mkString, Optional.of(timeoutOverride));
+         return create(name, toEvaluate, expected, mkString, Optional.of(Duration.ofSeconds(timeoutOverride)));
      }
 }
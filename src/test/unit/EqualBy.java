@@ -1,5 +1,6 @@
 package test.unit;
 
+import java.time.Duration;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.*;
@@ -32,7 +33,7 @@ public class EqualBy<T> extends Test {
                       T expected,
                       BiPredicate<T, T> equalsFn,
                       Function<T, String> mkString,
-                      Optional<Integer> timeoutOverride) {
+                      Optional<Duration> timeoutOverride) {
         super(name, timeoutOverride);
         this.toEvaluate = Objects.requireNonNull(toEvaluate, "Supplier 'toEvaluate' cannot be null");
         this.expected = expected;// this.expected can be null
@@ -48,58 +49,42 @@ public class EqualBy<T> extends Test {
      * @return A formatted string like "Expected result was: [green]<expected_value>[reset]".
      */
     private String expectedDescription(Config config) {
-        return config.msg("expected.result", config.logger().green(mkString.apply(expected)));
+        return config.msg(Message.EXPECTED_RESULT, config.logger().green(mkString.apply(expected)));
+    }
+
+    @Override
+    protected String expectationDescription(Config config) {
+        return expectedDescription(config);
     }
 
     /**
-     * Executes the core logic of the `EqualBy` test asynchronously.
+     * Executes the core logic of the `EqualBy` test, waiting for the outcome started by {@link #executeTestAsync(Config)}.
      */
     @Override
     protected TestResult executeTest(Config config) {
-        final String currentExpectedDesc = expectedDescription(config); // Generate once before async
-
-        CompletableFuture<TestResult> future = CompletableFuture.supplyAsync(() -> {
-            try {
-                T result = toEvaluate.get(); // Evaluate the expression
-                if (equalsFn.test(result, expected)) {
-                    return new TestResult.Success(); // Pass if the custom equality holds
-                } else {
-                    // Fail, providing expected, actual, and the string formatter
-                    return new TestResult.EqualityFailure<>(expected, result, mkString);
-                }
-            } catch (Throwable t) {
-                // Handle potential exceptions during evaluation (including InterruptedException)
-                if (t instanceof InterruptedException) {
-                    Thread.currentThread().interrupt(); // Preserve interrupt status
-                }
-                // Treat any exception during evaluation as unexpected for this test type
-                return new TestResult.UnexpectedExceptionFailure(t, currentExpectedDesc);
+        return await(executeTestAsync(config), this::expectedDescription);
+    }
+
+    /**
+     * Submits the evaluation to the {@link TestExecutor} of the config and returns without waiting for it.
+     * The description of the expected value is only referenced, not built, when the test fails.
+     */
+    @Override
+    protected CompletableFuture<TestResult> executeTestAsync(Config config) {
+        // The expression may also be asynchronous, see AsyncEvaluation
+        CompletableFuture<TestResult> future = AsyncEvaluation.submit(config, toEvaluate, result -> {
+            if (equalsFn.test(result, expected)) {
+                return TestResult.SUCCESS; // Pass if the custom equality holds
+            } else {
+                // Fail, providing expected, actual, and the string formatter
+                return new TestResult.EqualityFailure<>(expected, result, mkString);
             }
+        }, thrown -> {
+            // Treat any exception during evaluation as unexpected for this test type
+            return new TestResult.UnexpectedExceptionFailure(thrown, this::expectedDescription);
         });
 
-        try {
-            // Wait for the future to complete, respecting the timeout
-            return future.get(config.timeout(), TimeUnit.SECONDS);
-        } catch (TimeoutException e) {
-            future.cancel(true); // Attempt to cancel the task
-            return new TestResult.TimeoutFailure(config.timeout(), currentExpectedDesc);
-        } catch (ExecutionException e) {
-            // Exception occurred inside the future's execution, but wasn't caught by inner try-catch (should be rare)
-            // It typically wraps the exception thrown inside the Supplier
-            Throwable cause = (e.getCause() != null) ? e.getCause() : e;
-            if (cause instanceof InterruptedException) {
-                 Thread.currentThread().interrupt();
-            }
-            return new TestResult.UnexpectedExceptionFailure(cause, currentExpectedDesc);
-        } catch (InterruptedException e) {
-            // The waiting thread was interrupted
-            Thread.currentThread().interrupt();
-            future.cancel(true);
-            return new TestResult.UnexpectedExceptionFailure(e, currentExpectedDesc);
-        } catch (CancellationException e) {
-            // The future was cancelled, likely due to timeout handling
-            return new TestResult.TimeoutFailure(config.timeout(), currentExpectedDesc); // Treat as timeout
-        }
+        return outcomeOf(future, config.timeout(), this::expectedDescription, this::expectedDescription);
     }
 
     // --- Static Factory Methods ---
@@ -116,7 +101,7 @@ public class EqualBy<T> extends Test {
      * @param expected The value the result is expected to equal (via `equalsFn`).
      * @param equalsFn The custom equality function {@code (T, T) => Boolean}.
      * @param mkString Function to convert `T` to String for reporting. Defaults to {@code Objects.toString}.
-     * @param timeoutOverride Optional specific timeout in seconds.
+     * @param timeoutOverride Optional specific timeout.
      * @param <T> The type of the expression and result.
      * @return An `EqualBy<T>` test instance.
      */
@@ -125,7 +110,7 @@ public class EqualBy<T> extends Test {
                                         T expected,
                                         BiPredicate<T, T> equalsFn,
                                         Function<T, String> mkString,
-                                        Optional<Integer> timeoutOverride) {
+                                        Optional<Duration> timeoutOverride) {
         return new EqualBy<>(name, toEvaluate, expected, equalsFn, mkString, timeoutOverride);
     }
 
@@ -150,7 +135,7 @@ public class EqualBy<T> extends Test {
                                         Supplier<T> toEvaluate,
                                         T expected,
                                         BiPredicate<T, T> equalsFn,
-                                        Optional<Integer> timeoutOverride) {
+                                        Optional<Duration> timeoutOverride) {
         return create(name, toEvaluate, expected, equalsFn, defaultMkString(), timeoutOverride);
     }
 
@@ -159,7 +144,7 @@ public class EqualBy<T> extends Test {
                                         T expected,
                                         BiPredicate<T, T> equalsFn,
                                         int timeoutOverride) {
-        return create(name, toEvaluate, expected, equalsFn, defaultMkString(), Optional.of(timeoutOverride));
+        return create(name, toEvaluate, expected, equalsFn, defaultMkString(), Optional.of(Duration.ofSeconds(timeoutOverride)));
     }
 
      public static <T> EqualBy<T> create(String name,
@@ -168,6 +153,6 @@ public class EqualBy<T> extends Test {
                                          BiPredicate<T, T> equalsFn,
                                          Function<T, String> mkString,
                                          int timeoutOverride) {
-         return create(name, toEvaluate, expected, equalsFn, mkString, Optional.of(timeoutOverride));
+         return create(name, toEvaluate, expected, equalsFn, mkString, Optional.of(Duration.ofSeconds(timeoutOverride)));
      }
 }
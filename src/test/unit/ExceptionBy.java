@@ -1,5 +1,6 @@
 package test.unit;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -29,7 +30,7 @@ public abstract class ExceptionBy<T> extends Test {
     protected final Optional<String> expectedMessage;
     protected final Predicate<String> messagePredicate;
     protected final Optional<String> predicateHelp;
-    protected final String helpKey;
+    protected final Message helpKey;
     protected final List<HelpArg> helpArgs;
 
     /**
@@ -42,7 +43,7 @@ public abstract class ExceptionBy<T> extends Test {
      * @param expectedMessage Optional exact message the thrown exception must have. Takes priority over `messagePredicate`.
      * @param messagePredicate Predicate applied to the thrown message if `expectedMessage` is empty.
      * @param predicateHelp Optional human-readable description of the `messagePredicate`.
-     * @param helpKey Localization key for the overall description of the expectation.
+     * @param helpKey Localized message for the overall description of the expectation.
      * @param helpArgs List of {@link HelpArg} arguments for formatting the `helpKey` message.
      * @param timeoutOverride Optional timeout override.
      */
@@ -53,9 +54,9 @@ public abstract class ExceptionBy<T> extends Test {
                           Optional<String> expectedMessage,
                           Predicate<String> messagePredicate,
                           Optional<String> predicateHelp,
-                          String helpKey,
+                          Message helpKey,
                           List<HelpArg> helpArgs,
-                          Optional<Integer> timeoutOverride) {
+                          Optional<Duration> timeoutOverride) {
         super(name, timeoutOverride);
         this.toEvaluate = Objects.requireNonNull(toEvaluate, "Supplier 'toEvaluate' cannot be null");
         this.mkString = Objects.requireNonNull(mkString, "Function 'mkString' cannot be null");
@@ -63,7 +64,7 @@ public abstract class ExceptionBy<T> extends Test {
         this.expectedMessage = Objects.requireNonNull(expectedMessage, "Optional 'expectedMessage' cannot be null");
         this.messagePredicate = Objects.requireNonNull(messagePredicate, "Predicate 'messagePredicate' cannot be null");
         this.predicateHelp = Objects.requireNonNull(predicateHelp, "Optional 'predicateHelp' cannot be null");
-        this.helpKey = Objects.requireNonNull(helpKey, "String 'helpKey' cannot be null");
+        this.helpKey = Objects.requireNonNull(helpKey, "Message 'helpKey' cannot be null");
         this.helpArgs = List.copyOf(Objects.requireNonNull(helpArgs, "List 'helpArgs' cannot be null")); // Ensure immutable
 
         // Validate consistency: if exact message is absent, predicate must be provided (unless default is sufficient)
@@ -91,7 +92,7 @@ public abstract class ExceptionBy<T> extends Test {
      */
     protected String formattedHelp(Config config) {
         var logger = config.logger();
-        var orConnector = config.msg("connector.or"); // Localized " or "
+        var orConnector = config.msg(Message.CONNECTOR_OR); // Localized " or "
 
         // Process each HelpArg, applying appropriate formatting/coloring
         Object[] processedArgs = helpArgs.stream().map(arg -> {
@@ -125,79 +126,74 @@ public abstract class ExceptionBy<T> extends Test {
             .orElseGet(() -> messagePredicate.test(actualMessage)); // Otherwise, use predicate
     }
 
+    @Override
+    protected String expectationDescription(Config config) {
+        return config.msg(Message.EXPECTED, formattedHelp(config));
+    }
+
     /**
-     * Executes the core logic of the exception test asynchronously.
+     * Checks the exception thrown by the evaluated expression against the expected type and message.
+     *
+     * @param thrown The exception thrown by {@code toEvaluate}.
+     * @return {@link TestResult#SUCCESS} if both type and message match, or the failure describing the mismatch.
      */
-    @Override
-    protected TestResult executeTest(Config config) {
-        final String currentFormattedHelp = formattedHelp(config); // Generate once before async
-        final String withExpectedCurrentFormattedHelp = config.msg("expected", currentFormattedHelp);
-
-        CompletableFuture<TestResult> future = CompletableFuture.supplyAsync(() -> {
-            try {
-                T result = toEvaluate.get(); // Evaluate the potentially exception-throwing code
-                // If we reach here, no exception was thrown, which is a failure.
-                return new TestResult.NoExceptionFailure<>(result, mkString, currentFormattedHelp);
-            } catch (Throwable thrown) {
-                // An exception was thrown. Now check type and message.
-                if (thrown instanceof InterruptedException) {
-                    Thread.currentThread().interrupt(); // Preserve interrupt status
-                     // Treat interrupt during evaluation as unexpected for this test type
-                    return new TestResult.UnexpectedExceptionFailure(thrown, currentFormattedHelp);
-                }
-
-                boolean passedType = throwablePredicate.test(thrown); // Check if the type is acceptable
-                String actualMessage = String.valueOf(thrown.getMessage()); // Handle null messages safely
-                boolean passedMessage = checkMessage(actualMessage); // Check if the message is acceptable
-
-                if (passedType && passedMessage) {
-                    // Both type and message match expectations.
-                    return new TestResult.Success();
-                } else if (!passedType) {
-                    // Type mismatch. Message may or may not match.
-                    if (!passedMessage) {
-                        return new TestResult.WrongExceptionAndMessageFailure(thrown, currentFormattedHelp);
-                    } else {
-                        return new TestResult.WrongExceptionTypeFailure(thrown, currentFormattedHelp);
-                    }
-                } else { // Passed Type, Failed Message (!passedMessage must be true here)
-                    // Type matched, but the message did not. Generate a detailed message failure reason.
-                    var logger = config.logger();
-                    Optional<String> detailMessageOpt = expectedMessage
-                        .map(exactMsg -> config.msg(
-                                "detail.expected_exact_message",
-                                logger.green("\"" + exactMsg + "\"") // Show the expected message (colored green)
-                        ))
-                        .or(() -> predicateHelp.map(help -> config.msg( // Use or() on Optional
-                                "detail.expected_predicate",
-                                logger.green(help) // Show the predicate help text (colored green)
-                        )));
-
-                    // Return the failure result, including the specific detail about why the message failed.
-                    return new TestResult.WrongExceptionMessageFailure(thrown, currentFormattedHelp, detailMessageOpt);
-                }
+    private TestResult checkThrown(Throwable thrown) {
+        // An exception was thrown. Now check type and message.
+        if (thrown instanceof InterruptedException) {
+            // Treat interrupt during evaluation as unexpected for this test type
+            return new TestResult.UnexpectedExceptionFailure(thrown, this::formattedHelp);
+        }
+
+        boolean passedType = throwablePredicate.test(thrown); // Check if the type is acceptable
+        String actualMessage = String.valueOf(thrown.getMessage()); // Handle null messages safely
+        boolean passedMessage = checkMessage(actualMessage); // Check if the message is acceptable
+
+        if (passedType && passedMessage) {
+            // Both type and message match expectations.
+            return TestResult.SUCCESS;
+        } else if (!passedType) {
+            // Type mismatch. Message may or may not match.
+            if (!passedMessage) {
+                return new TestResult.WrongExceptionAndMessageFailure(thrown, this::formattedHelp);
+            } else {
+                return new TestResult.WrongExceptionTypeFailure(thrown, this::formattedHelp);
             }
-        });
-
-        try {
-            // Wait for the future to complete, respecting the timeout
-            return future.get(config.timeout(), TimeUnit.SECONDS);
-        } catch (TimeoutException e) {
-            future.cancel(true);
-            return new TestResult.TimeoutFailure(config.timeout(), withExpectedCurrentFormattedHelp);
-        } catch (ExecutionException e) {
-             Throwable cause = (e.getCause() != null) ? e.getCause() : e;
-              if (cause instanceof InterruptedException) {
-                  Thread.currentThread().interrupt();
-              }
-             // Treat exceptions during future execution itself as unexpected
-             return new TestResult.UnexpectedExceptionFailure(cause, currentFormattedHelp);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            future.cancel(true);
-             return new TestResult.UnexpectedExceptionFailure(e, currentFormattedHelp);
-        } catch (CancellationException e) {
-             return new TestResult.TimeoutFailure(config.timeout(), withExpectedCurrentFormattedHelp);
+        } else { // Passed Type, Failed Message (!passedMessage must be true here)
+            // Type matched, but the message did not. Generate a detailed message failure reason.
+            Optional<TestResult.Description> detailMessageOpt = expectedMessage
+                .<TestResult.Description>map(exactMsg -> cfg -> cfg.msg(
+                        Message.DETAIL_EXPECTED_EXACT_MESSAGE,
+                        cfg.logger().green("\"" + exactMsg + "\"") // Show the expected message (colored green)
+                ))
+                .or(() -> predicateHelp.map(help -> cfg -> cfg.msg( // Use or() on Optional
+                        Message.DETAIL_EXPECTED_PREDICATE,
+                        cfg.logger().green(help) // Show the predicate help text (colored green)
+                )));
+
+            // Return the failure result, including the specific detail about why the message failed.
+            return new TestResult.WrongExceptionMessageFailure(thrown, this::formattedHelp, detailMessageOpt);
         }
     }
+
+    /**
+     * Executes the core logic of the exception test, waiting for the result of {@link #executeTestAsync(Config)}.
+     */
+    @Override
+    protected TestResult executeTest(Config config) {
+        return await(executeTestAsync(config), this::formattedHelp);
+    }
+
+    /**
+     * Submits the code expected to throw to the {@link TestExecutor} of the config. The returned future
+     * completes once the thrown exception (or the lack of one) has been checked against the expectation.
+     */
+    @Override
+    protected CompletableFuture<TestResult> executeTestAsync(Config config) {
+        CompletableFuture<TestResult> future = AsyncEvaluation.submit(config, toEvaluate,
+                // If the evaluation completes, no exception was thrown, which is a failure.
+                result -> new TestResult.NoExceptionFailure<>(result, mkString, this::formattedHelp),
+                this::checkThrown); // Also used when an asynchronous expression completes exceptionally
+
+        return outcomeOf(future, config.timeout(), this::expectationDescription, this::formattedHelp);
+    }
 }
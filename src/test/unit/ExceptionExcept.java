@@ -1,5 +1,6 @@
 package test.unit;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -33,9 +34,9 @@ public class ExceptionExcept<T, E extends Throwable> extends ExceptionBy<T> {
                            Optional<String> expectedMessage,
                            Predicate<String> messagePredicate,
                            Optional<String> predicateHelp,
-                           String helpKey,
+                           Message helpKey,
                            List<HelpArg> helpArgs,
-                           Optional<Integer> timeoutOverride) {
+                           Optional<Duration> timeoutOverride) {
         super(name,
               toEvaluate,
               mkString,
@@ -65,7 +66,7 @@ public class ExceptionExcept<T, E extends Throwable> extends ExceptionBy<T> {
      * @param expectedMessage If present, requires the thrown exception's message to match exactly. Priority over `messagePredicate`.
      * @param messagePredicate If `expectedMessage` is empty, this predicate is applied to the message. Defaults to always true.
      * @param predicateHelp Description of the `messagePredicate` for error messages.
-     * @param timeoutOverride Optional specific timeout duration in seconds.
+     * @param timeoutOverride Optional specific timeout duration.
      * @param excludedType The {@code Class} object of the exception type (`<: Throwable`) that is *not* expected.
      * @param <T> The return type of `toEvaluate`.
      * @param <E> The exception type not expected.
@@ -78,25 +79,25 @@ public class ExceptionExcept<T, E extends Throwable> extends ExceptionBy<T> {
             Optional<String> expectedMessage,
             Predicate<String> messagePredicate,
             Optional<String> predicateHelp,
-            Optional<Integer> timeoutOverride,
+            Optional<Duration> timeoutOverride,
             Class<E> excludedType) { // Takes Class directly
 
         Objects.requireNonNull(excludedType, "excludedType cannot be null");
         String excludedTypeName = excludedType.getSimpleName();
 
         // Determine the localization key and formatting arguments based on message expectations
-        String key;
+        Message key;
         List<HelpArg> args = new ArrayList<>();
         args.add(new HelpArg.TypeName(excludedTypeName)); // Always add excluded type
 
         if (expectedMessage.isPresent()) {
-            key = "exception.except.with.message.description";
+            key = Message.EXCEPTION_EXCEPT_WITH_MESSAGE_DESCRIPTION;
             args.add(new HelpArg.ExactMessage(expectedMessage.get()));
         } else if (predicateHelp.isPresent()) {
-            key = "exception.except.with.predicate.description";
+            key = Message.EXCEPTION_EXCEPT_WITH_PREDICATE_DESCRIPTION;
             args.add(new HelpArg.PredicateHelp(predicateHelp.get()));
         } else {
-            key = "exception.except.description";
+            key = Message.EXCEPTION_EXCEPT_DESCRIPTION;
             // Only the type name arg is needed
         }
 
@@ -161,7 +162,7 @@ public class ExceptionExcept<T, E extends Throwable> extends ExceptionBy<T> {
             Supplier<T> toEvaluate,
             int timeoutOverride,
             Class<E> excludedType) {
-         return create(name, toEvaluate, defaultMkString(), Optional.empty(), DEFAULT_MSG_PREDICATE, Optional.empty(), Optional.of(timeoutOverride), excludedType);
+         return create(name, toEvaluate, defaultMkString(), Optional.empty(), DEFAULT_MSG_PREDICATE, Optional.empty(), Optional.of(Duration.ofSeconds(timeoutOverride)), excludedType);
      }
 
     public static <T, E extends Throwable> ExceptionExcept<T, E> create(
@@ -170,7 +171,7 @@ public class ExceptionExcept<T, E extends Throwable> extends ExceptionBy<T> {
             String expectedMessage,
             int timeoutOverride,
             Class<E> excludedType) {
-        return create(name, toEvaluate, defaultMkString(), Optional.of(expectedMessage), DEFAULT_MSG_PREDICATE, Optional.empty(), Optional.of(timeoutOverride), excludedType);
+        return create(name, toEvaluate, defaultMkString(), Optional.of(expectedMessage), DEFAULT_MSG_PREDICATE, Optional.empty(), Optional.of(Duration.ofSeconds(timeoutOverride)), excludedType);
     }
 
     public static <T, E extends Throwable> ExceptionExcept<T, E> create(
@@ -180,7 +181,7 @@ public class ExceptionExcept<T, E extends Throwable> extends ExceptionBy<T> {
             String predicateHelp,
             int timeoutOverride,
             Class<E> excludedType) {
-         return create(name, toEvaluate, defaultMkString(), Optional.empty(), messagePredicate, Optional.of(predicateHelp), Optional.of(timeoutOverride), excludedType);
+         return create(name, toEvaluate, defaultMkString(), Optional.empty(), messagePredicate, Optional.of(predicateHelp), Optional.of(Duration.ofSeconds(timeoutOverride)), excludedType);
      }
       public static <T, E extends Throwable> ExceptionExcept<T, E> create(
              String name,
@@ -188,7 +189,7 @@ public class ExceptionExcept<T, E extends Throwable> extends ExceptionBy<T> {
              Predicate<String> messagePredicate,
              int timeoutOverride,
              Class<E> excludedType) {
-         return create(name, toEvaluate, defaultMkString(), Optional.empty(), messagePredicate, Optional.empty(), Optional.of(timeoutOverride), excludedType);
+         return create(name, toEvaluate, defaultMkString(), Optional.empty(), messagePredicate, Optional.empty(), Optional.of(Duration.ofSeconds(timeoutOverride)), excludedType);
      }
 
 }
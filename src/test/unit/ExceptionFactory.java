@@ -1,5 +1,6 @@
 package test.unit;
 
+import java.time.Duration;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
@@ -33,7 +34,7 @@ public final class ExceptionFactory {
      * @param toEvaluate The supplier expected to throw an exception of type {@code E}.
      * @param mkString Function to convert result `T` to string if no exception is thrown. Defaults to {@code Objects.toString}.
      * @param expectedMessage If present, requires the thrown exception's message to match exactly.
-     * @param timeoutOverride Optional specific timeout duration in seconds.
+     * @param timeoutOverride Optional specific timeout duration.
      * @param expectedType The specific exception type {@code Class} expected.
      * @param <T> The return type of `toEvaluate`.
      * @param <E> The specific exception type expected.
@@ -44,7 +45,7 @@ public final class ExceptionFactory {
             Supplier<T> toEvaluate,
             Function<T, String> mkString,
             Optional<String> expectedMessage,
-            Optional<Integer> timeoutOverride,
+            Optional<Duration> timeoutOverride,
             Class<E> expectedType) {
 
         // Delegate to ExceptionOneOf's base factory, passing the single Class for E
@@ -118,7 +119,7 @@ public final class ExceptionFactory {
             String expectedMessage,
             int timeoutOverride,
             Class<E> expectedType) {
-        return create(name, toEvaluate, defaultMkString(), Optional.of(expectedMessage), Optional.of(timeoutOverride), expectedType);
+        return create(name, toEvaluate, defaultMkString(), Optional.of(expectedMessage), Optional.of(Duration.ofSeconds(timeoutOverride)), expectedType);
     }
 
     /**
@@ -137,6 +138,6 @@ public final class ExceptionFactory {
             Supplier<T> toEvaluate,
             int timeoutOverride,
             Class<E> expectedType) {
-        return create(name, toEvaluate, defaultMkString(), Optional.empty(), Optional.of(timeoutOverride), expectedType);
+        return create(name, toEvaluate, defaultMkString(), Optional.empty(), Optional.of(Duration.ofSeconds(timeoutOverride)), expectedType);
     }
 }
@@ -1,5 +1,6 @@
 package test.unit;
 
+import java.time.Duration;
 import java.util.*;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -29,9 +30,9 @@ public class ExceptionOneOf<T> extends ExceptionBy<T> {
                            Optional<String> expectedMessage,
                            Predicate<String> messagePredicate,
                            Optional<String> predicateHelp,
-                           String helpKey,
+                           Message helpKey,
                            List<HelpArg> helpArgs,
-                           Optional<Integer> timeoutOverride) {
+                           Optional<Duration> timeoutOverride) {
         super(name,
               toEvaluate,
               mkString,
@@ -66,7 +67,7 @@ public class ExceptionOneOf<T> extends ExceptionBy<T> {
      * @param expectedMessage If present, requires the thrown exception's message to match exactly. Priority over `messagePredicate`.
      * @param messagePredicate If `expectedMessage` is empty, this predicate is applied to the message. Defaults to always true.
      * @param predicateHelp Description of the `messagePredicate` for error messages.
-     * @param timeoutOverride Optional specific timeout duration in seconds.
+     * @param timeoutOverride Optional specific timeout duration.
      * @param expectedTypes A varargs array of {@code Class} objects representing the allowed exception types (`<: Throwable`). Must not be empty.
      * @param <T> The return type of `toEvaluate`.
      * @return An {@code ExceptionOneOf<T>} test instance.
@@ -80,7 +81,7 @@ public class ExceptionOneOf<T> extends ExceptionBy<T> {
             Optional<String> expectedMessage,
             Predicate<String> messagePredicate,
             Optional<String> predicateHelp,
-            Optional<Integer> timeoutOverride,
+            Optional<Duration> timeoutOverride,
             Class<? extends Throwable>... expectedTypes) { // Takes Class varargs
 
         if (expectedTypes == null || expectedTypes.length == 0) {
@@ -96,7 +97,7 @@ public class ExceptionOneOf<T> extends ExceptionBy<T> {
                 .toList(); // Java 16+
 
         // Determine the localization key and formatting arguments based on expectations
-        String key;
+        Message key;
         List<HelpArg> args = new ArrayList<>();
         HelpArg typeArg = (typeNamesSorted.size() == 1)
                           ? new HelpArg.TypeName(typeNamesSorted.get(0))
@@ -104,13 +105,13 @@ public class ExceptionOneOf<T> extends ExceptionBy<T> {
         args.add(typeArg); // Always add type argument(s) first
 
         if (expectedMessage.isPresent()) {
-            key = (expectedClasses.size() == 1) ? "exception.with.message.description" : "exception.oneof.with.message.description";
+            key = (expectedClasses.size() == 1) ? Message.EXCEPTION_WITH_MESSAGE_DESCRIPTION : Message.EXCEPTION_ONEOF_WITH_MESSAGE_DESCRIPTION;
             args.add(new HelpArg.ExactMessage(expectedMessage.get()));
         } else if (predicateHelp.isPresent()) {
-             key = (expectedClasses.size() == 1) ? "exception.with.predicate.description" : "exception.oneof.with.predicate.description";
+             key = (expectedClasses.size() == 1) ? Message.EXCEPTION_WITH_PREDICATE_DESCRIPTION : Message.EXCEPTION_ONEOF_WITH_PREDICATE_DESCRIPTION;
              args.add(new HelpArg.PredicateHelp(predicateHelp.get()));
         } else {
-             key = (expectedClasses.size() == 1) ? "exception.description" : "exception.oneof.description";
+             key = (expectedClasses.size() == 1) ? Message.EXCEPTION_DESCRIPTION : Message.EXCEPTION_ONEOF_DESCRIPTION;
             // Only the type arg is needed
         }
 
@@ -180,7 +181,7 @@ public class ExceptionOneOf<T> extends ExceptionBy<T> {
             Supplier<T> toEvaluate,
             int timeoutOverride,
             Class<? extends Throwable>... expectedTypes) {
-         return create(name, toEvaluate, defaultMkString(), Optional.empty(), DEFAULT_MSG_PREDICATE, Optional.empty(), Optional.of(timeoutOverride), expectedTypes);
+         return create(name, toEvaluate, defaultMkString(), Optional.empty(), DEFAULT_MSG_PREDICATE, Optional.empty(), Optional.of(Duration.ofSeconds(timeoutOverride)), expectedTypes);
      }
 
      @SafeVarargs
@@ -190,7 +191,7 @@ public class ExceptionOneOf<T> extends ExceptionBy<T> {
             String expectedMessage,
             int timeoutOverride,
             Class<? extends Throwable>... expectedTypes) {
-        return create(name, toEvaluate, defaultMkString(), Optional.of(expectedMessage), DEFAULT_MSG_PREDICATE, Optional.empty(), Optional.of(timeoutOverride), expectedTypes);
+        return create(name, toEvaluate, defaultMkString(), Optional.of(expectedMessage), DEFAULT_MSG_PREDICATE, Optional.empty(), Optional.of(Duration.ofSeconds(timeoutOverride)), expectedTypes);
     }
 
     @SafeVarargs
@@ -201,7 +202,7 @@ public class ExceptionOneOf<T> extends ExceptionBy<T> {
             String predicateHelp,
             int timeoutOverride,
             Class<? extends Throwable>... expectedTypes) {
-         return create(name, toEvaluate, defaultMkString(), Optional.empty(), messagePredicate, Optional.of(predicateHelp), Optional.of(timeoutOverride), expectedTypes);
+         return create(name, toEvaluate, defaultMkString(), Optional.empty(), messagePredicate, Optional.of(predicateHelp), Optional.of(Duration.ofSeconds(timeoutOverride)), expectedTypes);
      }
 
     @SafeVarargs
@@ -211,6 +212,6 @@ public class ExceptionOneOf<T> extends ExceptionBy<T> {
              Predicate<String> messagePredicate,
              int timeoutOverride,
              Class<? extends Throwable>... expectedTypes) {
-         return create(name, toEvaluate, defaultMkString(), Optional.empty(), messagePredicate, Optional.empty(), Optional.of(timeoutOverride), expectedTypes);
+         return create(name, toEvaluate, defaultMkString(), Optional.empty(), messagePredicate, Optional.empty(), Optional.of(Duration.ofSeconds(timeoutOverride)), expectedTypes);
      }
 }
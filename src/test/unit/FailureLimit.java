@@ -0,0 +1,56 @@
+package test.unit;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Counts the failed tests of a suite, or of a whole run of suites, against an optional limit
+ * (see {@link Config#suiteMaxFailures()} and {@link Config#runMaxFailures()}).
+ * <p>
+ * Failures are recorded as tests complete, possibly on many threads at once. Skipped tests are not failures,
+ * so cancelling the tests in flight once the limit is reached never counts against it.
+ *
+ * @author Pepe Gallardo & Gemini
+ */
+final class FailureLimit {
+
+    private final Optional<Integer> maxFailures;
+    private final AtomicInteger failures = new AtomicInteger();
+    private final CompletableFuture<TestResult.Skipped> reached = new CompletableFuture<>();
+
+    /**
+     * Creates a limit with no failures recorded yet.
+     *
+     * @param maxFailures The number of failures that reaches the limit, or empty for no limit.
+     */
+    FailureLimit(Optional<Integer> maxFailures) {
+        this.maxFailures = Objects.requireNonNull(maxFailures, "maxFailures Optional cannot be null");
+    }
+
+    /** Indicates whether there is a limit at all, so that callers can skip recording results otherwise. */
+    boolean isLimited() {
+        return maxFailures.isPresent();
+    }
+
+    /**
+     * Records the result of a completed test.
+     *
+     * @param result The result of the test. Only failures count.
+     */
+    void record(TestResult result) {
+        if (maxFailures.isEmpty() || result.isSuccess() || result.isSkipped()) {
+            return;
+        }
+        int max = maxFailures.get();
+        if (failures.incrementAndGet() == max) {
+            reached.complete(new TestResult.Skipped(max));
+        }
+    }
+
+    /** Gets a future completed, with the result to report for the tests skipped from then on, once the limit is reached. */
+    CompletableFuture<TestResult.Skipped> reached() {
+        return reached;
+    }
+}
@@ -0,0 +1,226 @@
+package test.unit;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.*;
+
+/**
+ * A worker JVM forked to run tests in isolation from the JVM that requested them (see {@link Isolation}).
+ * <p>
+ * The parent side of this class starts the child process and exchanges binary frames with it over the child's
+ * standard input and output. The child side ({@link #main(String[])}) builds the suites of a {@link SuiteProvider},
+ * then executes the requested tests one by one and reports each {@link TestResult} back. Anything test code writes
+ * to {@code System.out} in the child is redirected to its standard error, which the parent inherits.
+ * <p>
+ * Frames are made of {@code DataOutputStream} primitives, with strings written as a length-prefixed UTF-8 array.
+ * <ul>
+ * <li>Ready (child to parent): {@code int} {@link #READY}, sent once the suites have been built.</li>
+ * <li>Request (parent to child): {@code int} suite index, {@code int} item index, {@code long} timeout in nanoseconds,
+ *     {@code string} language name, {@code boolean} ANSI colors.</li>
+ * <li>Response (child to parent): {@code boolean} success, {@code string} simple name of the result record,
+ *     {@code string} rendered failure message (empty for successes).</li>
+ * </ul>
+ *
+ * @author Pepe Gallardo & Gemini
+ */
+public final class ForkedWorker implements AutoCloseable {
+
+    /** Value sent by the child once it is ready to execute tests. */
+    static final int READY = 0x7E57_0001;
+
+    /** Maximum time allowed for a child JVM to start and build its suites. */
+    private static final long STARTUP_TIMEOUT_SECONDS = 60;
+
+    // Reads from child processes, so that waiting for a response can be bounded by a deadline
+    private static final ExecutorService READERS = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final Process process;
+    private final DataOutputStream toChild;
+    private final DataInputStream fromChild;
+    private boolean ready = false;
+
+    /** The outcome of a test executed by the child, as reported over the pipe. */
+    record Response(boolean success, String kind, String renderedMessage) {}
+
+    private ForkedWorker(Process process) {
+        this.process = process;
+        this.toChild = new DataOutputStream(new BufferedOutputStream(process.getOutputStream()));
+        this.fromChild = new DataInputStream(new BufferedInputStream(process.getInputStream()));
+    }
+
+    /**
+     * Starts a child JVM, using the same Java installation and class path as the current one,
+     * that will run the suites built by the given provider.
+     *
+     * @param providerClassName The fully qualified name of a {@link SuiteProvider} implementation.
+     * @return The parent-side handle of the new worker.
+     * @throws IOException If the process could not be started.
+     */
+    static ForkedWorker spawn(String providerClassName) throws IOException {
+        Objects.requireNonNull(providerClassName, "providerClassName cannot be null");
+        String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        Process process = new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+                                             ForkedWorker.class.getName(), providerClassName)
+                .redirectError(ProcessBuilder.Redirect.INHERIT)
+                .start();
+        return new ForkedWorker(process);
+    }
+
+    /**
+     * Asks the child to execute one test and waits for its response.
+     *
+     * @param suiteIndex The index of the suite in the provider's list.
+     * @param itemIndex The index of the test among the items of its suite.
+     * @param config The configuration of the test, including its resolved timeout.
+     * @param grace Extra time, in milliseconds, granted on top of the test timeout before giving up on the child.
+     * @return The response of the child.
+     * @throws TimeoutException If the child did not respond to the test in time. It must then be killed.
+     * @throws IOException If the child did not start, could not be reached or died.
+     * @throws InterruptedException If the calling thread was interrupted while waiting.
+     */
+    Response execute(int suiteIndex, int itemIndex, Config config, long grace)
+            throws TimeoutException, IOException, InterruptedException {
+        if (!ready) {
+            int signal;
+            try {
+                signal = within(TimeUnit.SECONDS.toMillis(STARTUP_TIMEOUT_SECONDS), fromChild::readInt);
+            } catch (TimeoutException e) {
+                // Not the fault of the test, which has not even been sent: not to be reported as its timeout
+                throw new IOException("Forked worker did not start within " + STARTUP_TIMEOUT_SECONDS + " seconds", e);
+            }
+            if (signal != READY) {
+                throw new IOException("Unexpected handshake from forked worker: " + signal);
+            }
+            ready = true;
+        }
+
+        writeRequest(toChild, suiteIndex, itemIndex, config);
+        toChild.flush();
+
+        return within(config.timeout().toMillis() + grace, () -> readResponse(fromChild));
+    }
+
+    // Runs a blocking read from the child, giving up after the given number of milliseconds
+    private static <R> R within(long millis, Callable<R> read) throws TimeoutException, IOException, InterruptedException {
+        Future<R> future = READERS.submit(read);
+        try {
+            return future.get(millis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException cause) {
+                throw cause;
+            }
+            throw new IOException("Forked worker failed", e.getCause());
+        } finally {
+            future.cancel(true);
+        }
+    }
+
+    /**
+     * Kills the child JVM immediately, along with any code still running in it.
+     */
+    @Override
+    public void close() {
+        process.destroyForcibly();
+    }
+
+    // --- Child side ---
+
+    /**
+     * Entry point of the child JVM.
+     *
+     * @param args A single argument: the fully qualified name of the {@link SuiteProvider} to use.
+     * @throws Exception If the provider cannot be instantiated or the pipe to the parent fails.
+     */
+    public static void main(String[] args) throws Exception {
+        // Keep the real standard output for frames only: test code printing there would corrupt the protocol
+        var toParent = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(FileDescriptor.out)));
+        System.setOut(System.err);
+        var fromParent = new DataInputStream(new BufferedInputStream(System.in));
+
+        SuiteProvider provider = (SuiteProvider) Class.forName(args[0]).getDeclaredConstructor().newInstance();
+        List<TestSuite> suites = provider.suites();
+        toParent.writeInt(READY);
+        toParent.flush();
+        serve(suites, fromParent, toParent);
+    }
+
+    /**
+     * Executes the tests the parent asks for, one by one, reporting the result of each, until the parent is gone.
+     * Shared by the worker JVMs of {@link Isolation} and of {@link WorkerPool}.
+     *
+     * @param suites The suites built by the provider, which requests refer to by index.
+     * @param fromParent The stream requests are read from.
+     * @param toParent The stream responses are written to.
+     * @throws IOException If a response cannot be sent.
+     */
+    static void serve(List<TestSuite> suites, DataInputStream fromParent, DataOutputStream toParent) throws IOException {
+        while (true) {
+            int suiteIndex;
+            try {
+                suiteIndex = fromParent.readInt();
+            } catch (IOException e) {
+                System.exit(0); // Parent is gone: also stop any thread test code may have left behind
+                return;
+            }
+            int itemIndex = fromParent.readInt();
+            Duration timeout = Duration.ofNanos(fromParent.readLong());
+            Language language = Language.valueOf(readString(fromParent));
+            boolean ansi = fromParent.readBoolean();
+
+            Test test = (Test) suites.get(suiteIndex).getItems().get(itemIndex);
+            Config config = new Config(new RenderingLogger(ansi), language, timeout, false);
+            TestResult result = test.executeTest(config);
+
+            toParent.writeBoolean(result.isSuccess());
+            writeString(toParent, result.getClass().getSimpleName());
+            writeString(toParent, result.isSuccess() ? "" : result.message(config));
+            toParent.flush();
+        }
+    }
+
+    /** A logger producing no output, used only to render messages with the color support of the parent's logger. */
+    static final class RenderingLogger extends Logger.SilentLogger {
+        private final boolean ansi;
+
+        RenderingLogger(boolean ansi) {
+            this.ansi = ansi;
+        }
+
+        @Override
+        public boolean supportsAnsiColors() {
+            return ansi;
+        }
+    }
+
+    // --- Frame helpers ---
+
+    // Writes a request frame, leaving it to the caller to flush
+    static void writeRequest(DataOutputStream out, int suiteIndex, int itemIndex, Config config) throws IOException {
+        out.writeInt(suiteIndex);
+        out.writeInt(itemIndex);
+        out.writeLong(config.timeout().toNanos());
+        writeString(out, config.language().name());
+        out.writeBoolean(config.logger().supportsAnsiColors());
+    }
+
+    static Response readResponse(DataInputStream in) throws IOException {
+        return new Response(in.readBoolean(), readString(in), readString(in));
+    }
+
+    // writeUTF is limited to 64 KB, which a rendered failure message may exceed
+    static void writeString(DataOutputStream out, String str) throws IOException {
+        byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,154 @@
+package test.unit;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Runs the tests of a {@link SuiteProvider} in a pool of forked worker JVMs (see {@link ForkedWorker}),
+ * so that a runaway test, such as a tight loop ignoring interruption, can be stopped for good by killing its JVM.
+ * <p>
+ * {@link #suites()} returns mirrors of the provider's suites, in which every {@link Test} delegates its execution
+ * to a worker. They are run like any other suite (e.g., with {@link TestSuite#runAll(Config, TestSuite...)}), so
+ * logging, parallel execution and {@link Results} work as usual. Workers are reused from test to test. A worker is
+ * killed and replaced by a fresh one whenever a test it runs exceeds its timeout, or when it dies.
+ * <pre>{@code
+ * try (var isolation = Isolation.start(MySuites.class, 4)) {
+ *     TestSuite.runAll(Config.withParallelism(4, config), isolation.suites());
+ * }
+ * }</pre>
+ *
+ * @author Pepe Gallardo & Gemini
+ */
+public final class Isolation implements AutoCloseable {
+
+    /** Extra time granted to a worker, on top of the test timeout, before it is considered stuck and killed. */
+    private static final long KILL_GRACE_MILLIS = 1000;
+
+    private final String providerClassName;
+    private final List<TestSuite> suites;
+    private final BlockingQueue<ForkedWorker> idleWorkers;
+    private final List<ForkedWorker> allWorkers = new ArrayList<>();
+    private volatile boolean closed = false;
+
+    private Isolation(Class<? extends SuiteProvider> providerClass, int workers) throws IOException {
+        this.providerClassName = providerClass.getName();
+        this.idleWorkers = new ArrayBlockingQueue<>(workers);
+        SuiteProvider provider;
+        try {
+            provider = providerClass.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException("SuiteProvider needs a public no-argument constructor: " + providerClassName, e);
+        }
+        this.suites = MirroredTest.mirror(provider.suites(), IsolatedTest::new);
+        for (int i = 0; i < workers; i++) {
+            idleWorkers.add(spawn());
+        }
+    }
+
+    /**
+     * Starts the worker JVMs for the given provider.
+     *
+     * @param providerClass The {@link SuiteProvider} whose suites are to be run. Must not be null.
+     * @param workers The number of worker JVMs (must be positive). Use as many as the parallelism of the run.
+     * @return The new isolation pool. Close it to kill the workers.
+     * @throws IOException If a worker JVM could not be started.
+     */
+    public static Isolation start(Class<? extends SuiteProvider> providerClass, int workers) throws IOException {
+        Objects.requireNonNull(providerClass, "providerClass cannot be null");
+        if (workers <= 0) {
+            throw new IllegalArgumentException("workers must be positive");
+        }
+        return new Isolation(providerClass, workers);
+    }
+
+    /** Gets the mirrors of the provider's suites, whose tests run in the worker JVMs. */
+    public TestSuite[] suites() {
+        return suites.toArray(TestSuite[]::new);
+    }
+
+    /**
+     * Kills all the worker JVMs.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        synchronized (allWorkers) {
+            allWorkers.forEach(ForkedWorker::close);
+            allWorkers.clear();
+        }
+    }
+
+    private ForkedWorker spawn() throws IOException {
+        ForkedWorker worker = ForkedWorker.spawn(providerClassName);
+        synchronized (allWorkers) {
+            allWorkers.add(worker);
+        }
+        return worker;
+    }
+
+    // Puts a worker back in the pool, replacing it with a fresh JVM if it can no longer be trusted
+    private void release(ForkedWorker worker, boolean healthy) {
+        if (!healthy && !closed) {
+            worker.close();
+            synchronized (allWorkers) {
+                allWorkers.remove(worker);
+            }
+            try {
+                worker = spawn();
+            } catch (IOException e) {
+                // Keep the dead worker: the next test using it fails fast and triggers a new attempt
+            }
+        }
+        idleWorkers.add(worker);
+    }
+
+    /**
+     * A test standing for a test of the provider, which it executes in a worker JVM.
+     */
+    private final class IsolatedTest extends MirroredTest {
+
+        IsolatedTest(Test original, int suiteIndex, int itemIndex) {
+            super(original, suiteIndex, itemIndex);
+        }
+
+        @Override
+        protected TestResult executeTest(Config config) {
+            ForkedWorker worker;
+            try {
+                worker = idleWorkers.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return new TestResult.UnexpectedExceptionFailure(e, this::expectationDescription);
+            }
+
+            boolean healthy = false;
+            try {
+                ForkedWorker.Response response = worker.execute(suiteIndex, itemIndex, config, KILL_GRACE_MILLIS);
+                if (response.success()) {
+                    healthy = true;
+                    return TestResult.SUCCESS;
+                } else if (response.kind().equals(TestResult.TimeoutFailure.class.getSimpleName())) {
+                    // The test may still be burning CPU in the worker, which is therefore replaced
+                    return new TestResult.TimeoutFailure(config.timeout(), this::expectationDescription);
+                } else {
+                    healthy = true;
+                    return new TestResult.RemoteFailure(response.kind(), response.renderedMessage());
+                }
+            } catch (TimeoutException e) {
+                return new TestResult.TimeoutFailure(config.timeout(), this::expectationDescription);
+            } catch (IOException e) {
+                return new TestResult.UnexpectedExceptionFailure(e, this::expectationDescription);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return new TestResult.UnexpectedExceptionFailure(e, this::expectationDescription);
+            } finally {
+                release(worker, healthy);
+            }
+        }
+    }
+}
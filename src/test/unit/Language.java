@@ -3,14 +3,32 @@ package test.unit;
 /**
  * Enumerates the supported languages for the localization of test messages
  * used by {@link I18n} and configured via {@link Config}.
+ * <p>
+ * The messages of each language are kept in the resource {@code messages_<code>.properties}
+ * of this package, so supporting a new language only takes a constant here and its file.
  *
  * @author Pepe Gallardo & Gemini
  */
 public enum Language {
     /** Represents the English language. */
-    ENGLISH,
+    ENGLISH("en"),
     /** Represents the Spanish language. */
-    SPANISH,
+    SPANISH("es"),
     /** Represents the French language. */
-    FRENCH
+    FRENCH("fr");
+
+    private final String code;
+
+    Language(String code) {
+        this.code = code;
+    }
+
+    /**
+     * Gets the ISO 639 code of this language, which names the resource holding its messages.
+     *
+     * @return The code (e.g., "en").
+     */
+    public String code() {
+        return code;
+    }
 }
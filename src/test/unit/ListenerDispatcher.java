@@ -0,0 +1,73 @@
+package test.unit;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * Delivers the events of runs to their {@link TestListener}s on a single daemon thread, shared by all runs.
+ * <p>
+ * Events are handed over through a {@link RingBuffer}, which threads publish to without taking any lock.
+ * A publisher only waits if the listeners fall behind by a whole buffer of events.
+ *
+ * @author Pepe Gallardo & Gemini
+ */
+final class ListenerDispatcher {
+
+    /** Number of events that may be waiting for delivery. A power of two. */
+    private static final int CAPACITY = 1 << 14;
+
+    private static final RingBuffer<Runnable> EVENTS = new RingBuffer<>(CAPACITY);
+
+    static {
+        Thread.ofPlatform().daemon().name("test-listener-dispatcher").start(ListenerDispatcher::dispatch);
+    }
+
+    private ListenerDispatcher() {} // Prevent instantiation
+
+    /**
+     * Hands an event over to the dispatcher, which calls it on every listener, in order.
+     *
+     * @param listeners The listeners of the run. If there are none, nothing is done.
+     * @param event The call to make on each listener.
+     */
+    static void publish(List<TestListener> listeners, Consumer<TestListener> event) {
+        if (!listeners.isEmpty()) {
+            EVENTS.put(() -> {
+                for (TestListener listener : listeners) {
+                    try {
+                        event.accept(listener);
+                    } catch (Throwable t) {
+                        // A faulty listener must neither stop the dispatcher nor keep the others from their events
+                        Thread current = Thread.currentThread();
+                        current.getUncaughtExceptionHandler().uncaughtException(current, t);
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * Gets a future completed once all the events published so far have been delivered.
+     *
+     * @param listeners The listeners of the run. If there are none, the future is already complete.
+     * @return The future. It is completed by the dispatcher thread, so dependent actions must not block.
+     */
+    static CompletableFuture<Void> delivered(List<TestListener> listeners) {
+        if (listeners.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        var delivered = new CompletableFuture<Void>();
+        EVENTS.put(() -> delivered.complete(null)); // Events are delivered in order, so all earlier ones are done
+        return delivered;
+    }
+
+    private static void dispatch() {
+        while (true) {
+            Runnable event = EVENTS.poll(Long.MAX_VALUE);
+            if (event != null) {
+                event.run();
+            }
+        }
+    }
+}
@@ -1,9 +1,29 @@
 package test.unit;
 
+import java.io.IOException;
 import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
 
 /**
  * Defines the interface for logging test execution progress and results.
@@ -25,6 +45,16 @@ public interface Logger {
      */
     boolean supportsAnsiColors();
 
+    /**
+     * Indicates whether this logger discards everything written to it, so that callers
+     * can skip building output (decorated names, messages) that nobody will ever see.
+     *
+     * @return {@code true} if all output is discarded, {@code false} otherwise.
+     */
+    default boolean discardsOutput() {
+        return false;
+    }
+
     // --- Convenience methods for applying colors ---
 
     /** Applies red color to the text if ANSI colors are supported. */
@@ -89,6 +119,15 @@ public interface Logger {
      */
     void flush();
 
+    /**
+     * Ensures that all the output logged so far has been written to the underlying destination, waiting for it
+     * if this logger writes asynchronously, in which case {@link #flush()} may only be a hint.
+     * Called at the end of every suite and run.
+     */
+    default void flushFully() {
+        flush();
+    }
+
     // Compile the pattern once for efficiency, escaping backslashes for Java strings
     Pattern SENTENCE_START_PATTERN =
         Pattern.compile("(?m)((?:^|[.\\n\\r]\\s*)(?:\\u001B\\[[0-9;]*m)*)([a-z])");
@@ -188,6 +227,411 @@ public interface Logger {
         }
     }
 
+    /**
+     * A {@link Logger} implementation that prints output to the standard console (System.out), with or without
+     * ANSI color codes, from a writer thread of its own, so that threads running tests never wait for the console.
+     * <p>
+     * Output is rendered on the calling thread, exactly as {@link ConsoleLogger} renders it, and queued as strings
+     * on a preallocated {@link RingBuffer}. The writer prints them in batches, flushing the console as soon as
+     * a batch reaches {@link #BATCH_CHARS} characters, or {@code flushInterval} after its first string was queued.
+     * So {@link #flush()}, called after every test, does not wait for anything, while {@link #flushFully()},
+     * called at the end of every suite and run, waits until everything queued before has been printed.
+     * {@link #close()} prints everything still queued and stops the writer thread.
+     * <p>
+     * When the buffer is full, the {@link Overflow} policy decides whether the logging thread waits for room,
+     * or the output is dropped, in which case the number of strings dropped since the last batch is printed at
+     * the end of the next one, after any output queued once there was room again.
+     */
+    class AsyncConsoleLogger extends ConsoleLogger implements AutoCloseable {
+
+        /** What to do with output logged while the buffer is full. */
+        public enum Overflow {
+            /** Wait for the writer to make room, slowing the logging thread down to the pace of the console. */
+            BLOCK,
+            /** Drop the output, so that the logging thread never waits. */
+            DROP
+        }
+
+        /** Number of characters after which a batch is printed without waiting any longer. */
+        public static final int BATCH_CHARS = 8192;
+
+        /** A request to print everything queued before it, completed once done. */
+        private record FlushRequest(CompletableFuture<Void> done) {}
+
+        /** The last record the writer takes, after which it stops. */
+        private record Stop() {}
+
+        private final boolean useAnsi;
+        private final Overflow overflow;
+        private final long flushIntervalNanos;
+        private final RingBuffer<Object> records; // Strings to print, flush requests, and the final stop
+        private final AtomicLong dropped = new AtomicLong();
+        private final PrintStream out = System.out;
+        private volatile boolean closed = false;
+
+        /**
+         * Creates a logger and starts its writer thread.
+         *
+         * @param useAnsi Whether to use ANSI color codes.
+         * @param capacity The number of strings the buffer can hold. Must be a power of two.
+         * @param overflow What to do with output logged while the buffer is full. Must not be null.
+         * @param flushInterval The maximum time output waits before being printed. Must be positive.
+         */
+        public AsyncConsoleLogger(boolean useAnsi, int capacity, Overflow overflow, Duration flushInterval) {
+            Objects.requireNonNull(overflow, "overflow cannot be null");
+            Objects.requireNonNull(flushInterval, "flushInterval cannot be null");
+            if (flushInterval.isNegative() || flushInterval.isZero()) {
+                throw new IllegalArgumentException("flushInterval must be positive");
+            }
+            this.useAnsi = useAnsi;
+            this.overflow = overflow;
+            this.flushIntervalNanos = flushInterval.toNanos();
+            this.records = new RingBuffer<>(capacity);
+            Thread.ofPlatform().daemon().name("async-console-logger").start(this::write);
+        }
+
+        /**
+         * Constructor for a buffer of 8192 strings that makes the logging thread wait when full,
+         * with output printed at most 100 milliseconds after being logged.
+         */
+        public AsyncConsoleLogger(boolean useAnsi) {
+            this(useAnsi, 8192, Overflow.BLOCK, Duration.ofMillis(100));
+        }
+
+        @Override
+        public boolean supportsAnsiColors() {
+            return useAnsi;
+        }
+
+        @Override
+        public void print(Object any) {
+            enqueue(String.valueOf(any));
+        }
+
+        @Override
+        public void println(Object any) {
+            enqueue(any + System.lineSeparator());
+        }
+
+        @Override
+        public void flush() {
+            // Nothing to wait for: the writer prints everything within the flush interval anyway
+        }
+
+        @Override
+        public void flushFully() {
+            ensureOpen();
+            var request = new FlushRequest(new CompletableFuture<>());
+            records.put(request); // Never dropped, whatever the policy
+            request.done().join();
+        }
+
+        /**
+         * Prints everything still queued, waiting until it has been printed, and stops the writer thread.
+         * The logger cannot be used afterwards.
+         */
+        @Override
+        public synchronized void close() {
+            if (!closed) {
+                closed = true;
+                var request = new FlushRequest(new CompletableFuture<>());
+                records.put(request);
+                records.put(new Stop());
+                request.done().join();
+            }
+        }
+
+        private void ensureOpen() {
+            if (closed) {
+                throw new IllegalStateException("The logger is closed");
+            }
+        }
+
+        private void enqueue(String text) {
+            ensureOpen();
+            if (overflow == Overflow.BLOCK) {
+                records.put(text);
+            } else if (!records.offer(text)) {
+                dropped.incrementAndGet();
+            }
+        }
+
+        // Body of the writer thread
+        private void write() {
+            var batch = new StringBuilder();
+            long firstQueued = 0; // System.nanoTime() when the first string of the batch was taken
+            while (true) {
+                long wait = batch.isEmpty() ? Long.MAX_VALUE : firstQueued + flushIntervalNanos - System.nanoTime();
+                switch (records.poll(wait)) {
+                    case String text -> {
+                        if (batch.isEmpty()) {
+                            firstQueued = System.nanoTime();
+                        }
+                        batch.append(text);
+                        if (batch.length() >= BATCH_CHARS || System.nanoTime() - firstQueued >= flushIntervalNanos) {
+                            printBatch(batch);
+                        }
+                    }
+                    case FlushRequest request -> {
+                        printBatch(batch);
+                        request.done().complete(null);
+                    }
+                    case Stop stop -> {
+                        return; // Everything before was printed by the flush request that close() queued first
+                    }
+                    case null, default -> { // Nothing more came in time
+                        if (!batch.isEmpty() && System.nanoTime() - firstQueued >= flushIntervalNanos) {
+                            printBatch(batch);
+                        }
+                    }
+                }
+            }
+        }
+
+        private void printBatch(StringBuilder batch) {
+            long lost = dropped.getAndSet(0);
+            if (lost > 0) {
+                batch.append("[").append(lost).append(" log outputs dropped]").append(System.lineSeparator());
+            }
+            out.print(batch);
+            out.flush();
+            batch.setLength(0);
+        }
+    }
+
+    /**
+     * A {@link Logger} implementation that writes output to a file, UTF-8 encoded, through a {@link FileChannel}, for
+     * archiving the whole log of a run. With {@code useAnsi} false, the log is written free of ANSI color codes.
+     * <p>
+     * Output is encoded into a large direct buffer, reused all along, which is only written to the file when it
+     * fills up, or when {@link #flushFully()} is called, at the end of every suite and run. So, unlike with
+     * {@link ConsoleLogger}, {@link #flush()}, called after every test, costs no system call. Output still in the
+     * buffer is lost if the JVM stops without {@link #close()} or {@link #flushFully()} being called.
+     * <p>
+     * The file can be compressed as it is written, in gzip format, and split once it reaches a given size into
+     * parts numbered from 1: for {@code run.log}, they are {@code run.log.1}, {@code run.log.2}, and so on, and for
+     * {@code run.log.gz}, {@code run.log.1.gz} and so on. Files are only split between lines, and a compressed part may
+     * grow past that size by what a buffer of output compresses to. Instances are thread-safe.
+     */
+    class FileLogger extends ConsoleLogger implements AutoCloseable {
+
+        /** Size, in bytes, of the buffer output is encoded into before being written to the file. */
+        public static final int BUFFER_BYTES = 1 << 20;
+
+        // Magic number, deflate method, no flags, no modification time, no extra flags, unknown OS
+        private static final byte[] GZIP_HEADER = {0x1f, (byte) 0x8b, 8, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+
+        private final Path file;
+        private final boolean useAnsi;
+        private final boolean gzip;
+        private final long rotateBytes;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_BYTES); // Output not written yet
+        private final ByteBuffer compressed; // Output of the deflater, if compressing
+        private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        private final CRC32 crc = new CRC32(); // Of the uncompressed content of the current part
+        private FileChannel channel;
+        private Deflater deflater;
+        private long uncompressedBytes; // Of the current part
+        private long writtenBytes; // To the current part
+        private int part = 0;
+        private boolean closed = false;
+
+        /**
+         * Creates a logger writing to the given file, which is created, or truncated if it exists.
+         *
+         * @param file The file to write. Must not be null.
+         * @param useAnsi Whether to use ANSI color codes.
+         * @param gzip Whether to compress the file in gzip format.
+         * @param rotateBytes The size, in bytes, after which the file is continued in a new part, or {@code 0} to
+         *                    write a single file. Must not be negative.
+         * @throws UncheckedIOException If the file cannot be created.
+         */
+        public FileLogger(Path file, boolean useAnsi, boolean gzip, long rotateBytes) {
+            this.file = Objects.requireNonNull(file, "file cannot be null");
+            if (rotateBytes < 0) {
+                throw new IllegalArgumentException("rotateBytes cannot be negative");
+            }
+            this.useAnsi = useAnsi;
+            this.gzip = gzip;
+            this.rotateBytes = rotateBytes;
+            this.compressed = gzip ? ByteBuffer.allocateDirect(BUFFER_BYTES / 4) : null;
+            try {
+                openPart();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot create the log file " + file, e);
+            }
+        }
+
+        /**
+         * Constructor for a single uncompressed file.
+         */
+        public FileLogger(Path file, boolean useAnsi) {
+            this(file, useAnsi, false, 0);
+        }
+
+        @Override
+        public boolean supportsAnsiColors() {
+            return useAnsi;
+        }
+
+        @Override
+        public synchronized void print(Object any) {
+            append(String.valueOf(any));
+        }
+
+        @Override
+        public synchronized void println(Object any) {
+            append(any + System.lineSeparator());
+            long pendingBytes = gzip ? 0 : buffer.position(); // Compressed size is only known once written
+            if (rotateBytes > 0 && writtenBytes + pendingBytes >= rotateBytes) {
+                try {
+                    finishPart();
+                    part++;
+                    openPart();
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Cannot rotate the log file " + partPath(part), e);
+                }
+            }
+        }
+
+        @Override
+        public void flush() {
+            // Writing after every test is what this logger avoids: the buffer is written once full, or by flushFully
+        }
+
+        @Override
+        public synchronized void flushFully() {
+            ensureOpen();
+            try {
+                drain();
+                if (gzip) {
+                    deflate(Deflater.SYNC_FLUSH); // Everything so far can be decompressed, even if the run is killed
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot write the log file " + partPath(part), e);
+            }
+        }
+
+        /**
+         * Writes all the output still buffered, completes the compressed format if any, and closes the file.
+         *
+         * @throws UncheckedIOException If the file cannot be written.
+         */
+        @Override
+        public synchronized void close() {
+            if (!closed) {
+                closed = true;
+                try {
+                    finishPart();
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Cannot write the log file " + partPath(part), e);
+                }
+            }
+        }
+
+        private void ensureOpen() {
+            if (closed) {
+                throw new IllegalStateException("The log file " + file + " is closed");
+            }
+        }
+
+        // Encodes text into the buffer, writing the buffer out whenever it fills up
+        private void append(String text) {
+            ensureOpen();
+            CharBuffer chars = CharBuffer.wrap(text);
+            try {
+                while (encoder.encode(chars, buffer, true).isOverflow()) {
+                    drain();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot write the log file " + partPath(part), e);
+            } finally {
+                encoder.reset();
+            }
+        }
+
+        // Writes the buffer to the current part, compressing it if asked to, and empties it
+        private void drain() throws IOException {
+            buffer.flip();
+            if (gzip) {
+                uncompressedBytes += buffer.remaining();
+                crc.update(buffer.duplicate());
+                deflater.setInput(buffer.duplicate()); // The deflater keeps it, so it must not see the buffer refilled
+                deflate(Deflater.NO_FLUSH);
+            } else {
+                writeFully(buffer);
+            }
+            buffer.clear();
+        }
+
+        // Writes what the deflater produces until it needs more input and, when flushing, has nothing more to give
+        private void deflate(int flushMode) throws IOException {
+            int produced;
+            do {
+                compressed.clear();
+                produced = deflater.deflate(compressed, flushMode);
+                compressed.flip();
+                writeFully(compressed);
+            } while (produced == compressed.capacity() || !deflater.needsInput());
+        }
+
+        private void writeFully(ByteBuffer bytes) throws IOException {
+            writtenBytes += bytes.remaining();
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+        }
+
+        private void openPart() throws IOException {
+            channel = FileChannel.open(partPath(part), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                                       StandardOpenOption.TRUNCATE_EXISTING);
+            writtenBytes = 0;
+            if (gzip) {
+                deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true); // Raw deflate: the gzip framing is written here
+                crc.reset();
+                uncompressedBytes = 0;
+                writeFully(ByteBuffer.wrap(GZIP_HEADER));
+            }
+        }
+
+        private void finishPart() throws IOException {
+            try {
+                drain();
+                if (gzip) {
+                    deflater.finish();
+                    while (!deflater.finished()) {
+                        compressed.clear();
+                        deflater.deflate(compressed);
+                        compressed.flip();
+                        writeFully(compressed);
+                    }
+                    ByteBuffer trailer = ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN);
+                    trailer.putInt((int) crc.getValue()).putInt((int) uncompressedBytes).flip(); // Size is kept modulo 2^32
+                    writeFully(trailer);
+                }
+            } finally {
+                if (deflater != null) {
+                    deflater.end();
+                }
+                channel.close();
+            }
+        }
+
+        // Gets the path of a part of the log, keeping the .gz extension last
+        private Path partPath(int number) {
+            if (number == 0) {
+                return file;
+            }
+            String name = file.getFileName().toString();
+            String partName = (gzip && name.endsWith(".gz"))
+                    ? name.substring(0, name.length() - 3) + "." + number + ".gz"
+                    : name + "." + number;
+            return file.resolveSibling(partName);
+        }
+    }
+
     /**
      * A {@link Logger} implementation that produces no output. Useful for suppressing
      * test logging entirely.
@@ -198,6 +642,11 @@ public interface Logger {
             return false;
         }
 
+        @Override
+        public boolean discardsOutput() {
+            return true;
+        }
+
         @Override
         public void print(Object any) { /* Does nothing */ }
 
@@ -213,4 +662,74 @@ public interface Logger {
         @Override
         public void flush() { /* Does nothing */ }
     }
+
+    /**
+     * A {@link Logger} implementation that records every call in memory instead of producing output,
+     * so that the output of a test running on another thread can later be replayed, unchanged and in order,
+     * on a target logger. Used by {@link TestSuite#run(Config)} when running tests in parallel.
+     * <p>
+     * Color support is taken from the target logger, so messages are formatted exactly as
+     * they would have been if written to the target directly.
+     * Instances are not thread-safe: each one is meant to be filled by a single test.
+     */
+    class BufferedLogger implements Logger {
+        private final Logger target;
+        private final List<Consumer<Logger>> calls = new ArrayList<>();
+
+        /**
+         * Creates a buffer whose recorded output will be replayed on {@code target}.
+         * @param target The logger that will eventually receive the output. Must not be null.
+         */
+        public BufferedLogger(Logger target) {
+            this.target = Objects.requireNonNull(target, "target logger cannot be null");
+        }
+
+        @Override
+        public boolean supportsAnsiColors() {
+            return target.supportsAnsiColors();
+        }
+
+        @Override
+        public boolean discardsOutput() {
+            return target.discardsOutput();
+        }
+
+        @Override
+        public void print(Object any) {
+            calls.add(logger -> logger.print(any));
+        }
+
+        @Override
+        public void println(Object any) {
+            calls.add(logger -> logger.println(any));
+        }
+
+        @Override
+        public void logStart(String testName, Config config) {
+            calls.add(logger -> logger.logStart(testName, config));
+        }
+
+        @Override
+        public void logResult(TestResult result, Config config) {
+            calls.add(logger -> logger.logResult(result, config));
+        }
+
+        @Override
+        public void flush() {
+            calls.add(Logger::flush);
+        }
+
+        @Override
+        public void flushFully() {
+            calls.add(Logger::flushFully);
+        }
+
+        /**
+         * Replays all recorded calls, in order, on the target logger and empties the buffer.
+         */
+        public void replay() {
+            calls.forEach(call -> call.accept(target));
+            calls.clear();
+        }
+    }
 }
@@ -0,0 +1,111 @@
+package test.unit;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Enumerates the messages of test output, translated by {@link I18n} for every {@link Language} and formatted by
+ * {@link Config#msg(Message, Object...)}.
+ * <p>
+ * Using a constant of this enum rather than its key means the message is known to exist when the code compiles,
+ * and that {@link I18n} finds its translations by its ordinal, in an array, without hashing the key.
+ *
+ * @author Pepe Gallardo & Gemini
+ */
+public enum Message {
+    // Failure descriptions
+    BUT_EXPECTED("but.expected"),
+
+    // Durations and time limits
+    TIMEOUT("timeout"),
+    DURATION_SECONDS("duration.seconds"),
+    DURATION_MILLISECONDS("duration.milliseconds"),
+    BUDGET_EXHAUSTED("budget.exhausted"),
+
+    // Outcomes and expectations
+    UNEXPECTED_EXCEPTION("unexpected.exception"),
+    CONNECTOR_OR("connector.or"),
+    FAILED("failed"),
+    PASSED("passed"),
+    SKIPPED("skipped"),
+    SKIPPED_MAX_FAILURES("skipped.max.failures"),
+    EXPECTED("expected"),
+    EXPECTED_COMPLETION("expected.completion"),
+    EXPECTED_RESULT("expected.result"),
+    OBTAINED_RESULT("obtained.result"),
+    NO_EXCEPTION_BASIC("no.exception.basic"),
+    WRONG_EXCEPTION_TYPE_BASIC("wrong.exception.type.basic"),
+    WRONG_EXCEPTION_MESSAGE_BASIC("wrong.exception.message.basic"),
+    WRONG_EXCEPTION_AND_MESSAGE_BASIC("wrong.exception.and.message.basic"),
+
+    // Descriptions of expected exceptions
+    EXCEPTION_DESCRIPTION("exception.description"),
+    EXCEPTION_WITH_MESSAGE_DESCRIPTION("exception.with.message.description"),
+    EXCEPTION_WITH_PREDICATE_DESCRIPTION("exception.with.predicate.description"),
+    EXCEPTION_ONEOF_DESCRIPTION("exception.oneof.description"),
+    EXCEPTION_ONEOF_WITH_MESSAGE_DESCRIPTION("exception.oneof.with.message.description"),
+    EXCEPTION_ONEOF_WITH_PREDICATE_DESCRIPTION("exception.oneof.with.predicate.description"),
+    EXCEPTION_EXCEPT_DESCRIPTION("exception.except.description"),
+    EXCEPTION_EXCEPT_WITH_MESSAGE_DESCRIPTION("exception.except.with.message.description"),
+    EXCEPTION_EXCEPT_WITH_PREDICATE_DESCRIPTION("exception.except.with.predicate.description"),
+    DETAIL_EXPECTED_EXACT_MESSAGE("detail.expected_exact_message"),
+    DETAIL_EXPECTED_PREDICATE("detail.expected_predicate"),
+
+    // Property tests
+    PROPERTY_FAILURE_BASE("property.failure.base"),
+    PROPERTY_FAILURE_SUFFIX("property.failure.suffix"),
+    PROPERTY_MUST_BE_TRUE("property.must.be.true"),
+    PROPERTY_MUST_BE_FALSE("property.must.be.false"),
+    PROPERTY_WAS_TRUE("property.was.true"),
+    PROPERTY_WAS_FALSE("property.was.false"),
+
+    // Suites and their results
+    SUITE_FOR("suite.for"),
+    RESULTS_PASSED("results.passed"),
+    RESULTS_FAILED("results.failed"),
+    RESULTS_SKIPPED("results.skipped"),
+    RESULTS_TOTAL("results.total"),
+    RESULTS_DETAIL("results.detail"),
+
+    // Summary of all suites
+    SUMMARY_TITLE("summary.title"),
+    SUMMARY_SUITES_RUN("summary.suites.run"),
+    SUMMARY_TOTAL_TESTS("summary.total.tests"),
+    SUMMARY_SUCCESS_RATE("summary.success.rate"),
+    SUMMARY_SLOWEST("summary.slowest"),
+    SUMMARY_SLOWEST_ENTRY("summary.slowest.entry");
+
+    private static final Map<String, Message> BY_KEY = new HashMap<>();
+
+    static {
+        for (Message message : values()) {
+            BY_KEY.put(message.key, message);
+        }
+    }
+
+    private final String key;
+
+    Message(String key) {
+        this.key = key;
+    }
+
+    /**
+     * Gets the key of this message in the {@link I18n} catalogue (e.g., "expected.result").
+     *
+     * @return The key.
+     */
+    public String key() {
+        return key;
+    }
+
+    /**
+     * Finds the message with the given key.
+     *
+     * @param key The key of the message.
+     * @return The message, or empty if no message has that key.
+     */
+    public static Optional<Message> byKey(String key) {
+        return Optional.ofNullable(BY_KEY.get(key));
+    }
+}
@@ -0,0 +1,164 @@
+package test.unit;
+
+import java.util.ArrayList;
+import java.util.Formattable;
+import java.util.Formatter;
+import java.util.IllegalFormatException;
+import java.util.List;
+import java.util.Locale;
+import java.util.MissingFormatArgumentException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A message pattern of {@link I18n}, parsed once into its literal text and format specifiers, so that it can be
+ * rendered many times without parsing it again, straight into a {@link StringBuilder}.
+ * <p>
+ * Rendering gives the same text as {@code String.format(Locale.ROOT, pattern, args)} and fails with the same
+ * exceptions. The specifiers used by messages ({@code %s} and {@code %d}, possibly indexed, {@code %%} and
+ * {@code %n}) are rendered directly; any other one is handed to a {@link Formatter}, with its argument only. Patterns
+ * with relative indexes ({@code %<s}) or that are not well formed are formatted as a whole, as before.
+ *
+ * @author Pepe Gallardo & Gemini
+ */
+final class MessageTemplate {
+
+    // Same syntax as that of java.util.Formatter: %[argument_index$][flags][width][.precision][t]conversion
+    private static final Pattern SPECIFIER =
+            Pattern.compile("%(\\d+\\$)?([-#+ 0,(<]*)?(\\d+)?(\\.\\d+)?([tT])?([a-zA-Z%])");
+
+    private sealed interface Segment {}
+
+    /** Text copied as is. */
+    private record Literal(String text) implements Segment {}
+
+    /** A plain {@code %s} or {@code %d} of the argument at {@code index}. */
+    private record Plain(int index, boolean decimal, String specifier) implements Segment {}
+
+    /** Any other specifier of the argument at {@code index}, rendered by a {@link Formatter} as {@code format}. */
+    private record Formatted(int index, String format, String specifier) implements Segment {}
+
+    private final String pattern;
+    private final Segment[] segments; // Null if the pattern is formatted as a whole
+
+    private MessageTemplate(String pattern, Segment[] segments) {
+        this.pattern = pattern;
+        this.segments = segments;
+    }
+
+    /**
+     * Parses a message pattern.
+     *
+     * @param pattern The pattern, in the syntax of {@link Formatter}.
+     * @return The template of the pattern.
+     */
+    static MessageTemplate compile(String pattern) {
+        List<Segment> segments = new ArrayList<>();
+        var literal = new StringBuilder();
+        int ordinaryIndex = 0; // Index of the argument of the next specifier with no explicit index
+        int from = 0;
+        Matcher matcher = SPECIFIER.matcher(pattern);
+        for (int at = pattern.indexOf('%'); at >= 0; at = pattern.indexOf('%', from)) {
+            literal.append(pattern, from, at);
+            if (!matcher.find(at) || matcher.start() != at) {
+                return new MessageTemplate(pattern, null); // Malformed: let String.format report it
+            }
+            String explicitIndex = matcher.group(1);
+            String flags = matcher.group(2) == null ? "" : matcher.group(2);
+            String width = matcher.group(3) == null ? "" : matcher.group(3);
+            String precision = matcher.group(4) == null ? "" : matcher.group(4);
+            String time = matcher.group(5) == null ? "" : matcher.group(5);
+            char conversion = matcher.group(6).charAt(0);
+            boolean bare = flags.isEmpty() && width.isEmpty() && precision.isEmpty() && time.isEmpty();
+            from = matcher.end();
+
+            if (bare && conversion == '%') {
+                literal.append('%');
+            } else if (bare && conversion == 'n') {
+                literal.append(System.lineSeparator());
+            } else if (flags.contains("<") || conversion == '%' || conversion == 'n') {
+                return new MessageTemplate(pattern, null); // Rare forms, best left to String.format
+            } else {
+                if (!literal.isEmpty()) {
+                    segments.add(new Literal(literal.toString()));
+                    literal.setLength(0);
+                }
+                int index = (explicitIndex == null)
+                        ? ordinaryIndex++
+                        : Integer.parseInt(explicitIndex, 0, explicitIndex.length() - 1, 10) - 1;
+                if (index < 0) {
+                    return new MessageTemplate(pattern, null); // %0$s is rejected by String.format
+                }
+                String specifier = matcher.group();
+                if (bare && (conversion == 's' || conversion == 'd')) {
+                    segments.add(new Plain(index, conversion == 'd', specifier));
+                } else {
+                    String format = "%" + flags + width + precision + time + conversion;
+                    try {
+                        String.format(Locale.ROOT, format, (Object) null); // Bad flags are reported before any argument
+                    } catch (IllegalFormatException e) {
+                        return new MessageTemplate(pattern, null);
+                    }
+                    segments.add(new Formatted(index, format, specifier));
+                }
+            }
+        }
+        literal.append(pattern, from, pattern.length());
+        if (!literal.isEmpty()) {
+            segments.add(new Literal(literal.toString()));
+        }
+        return new MessageTemplate(pattern, segments.toArray(new Segment[0]));
+    }
+
+    /** Gets the pattern this template was compiled from. */
+    String pattern() {
+        return pattern;
+    }
+
+    /**
+     * Renders this template with the given arguments, as {@code String.format(Locale.ROOT, pattern, args)} would.
+     *
+     * @param out The builder the text is appended to. If an exception is thrown, part of the text may have been.
+     * @param args The arguments of the specifiers. Extra ones are ignored.
+     * @throws MissingFormatArgumentException If a specifier has no argument.
+     * @throws java.util.IllegalFormatException If an argument does not suit its specifier, among others.
+     */
+    void renderTo(StringBuilder out, Object... args) {
+        if (segments == null) {
+            out.append(String.format(Locale.ROOT, pattern, args));
+            return;
+        }
+        for (Segment segment : segments) {
+            switch (segment) {
+                case Literal literal -> out.append(literal.text());
+                case Plain plain -> {
+                    Object arg = argument(args, plain.index(), plain.specifier());
+                    if (!plain.decimal() && !(arg instanceof Formattable)) {
+                        out.append(arg);
+                    } else if (plain.decimal() && (arg instanceof Integer || arg instanceof Long
+                                                    || arg instanceof Short || arg instanceof Byte)) {
+                        out.append(((Number) arg).longValue()); // No grouping nor localized digits in ROOT
+                    } else {
+                        format(out, plain.decimal() ? "%d" : "%s", arg); // Formattable, BigInteger or a mismatch
+                    }
+                }
+                case Formatted formatted ->
+                        format(out, formatted.format(), argument(args, formatted.index(), formatted.specifier()));
+            }
+        }
+    }
+
+    private static Object argument(Object[] args, int index, String specifier) {
+        if (args == null) {
+            return null; // As Formatter does
+        }
+        if (index >= args.length) {
+            throw new MissingFormatArgumentException(specifier);
+        }
+        return args[index];
+    }
+
+    private static void format(StringBuilder out, String format, Object arg) {
+        new Formatter(out, Locale.ROOT).format(format, arg);
+    }
+}
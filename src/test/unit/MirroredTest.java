@@ -0,0 +1,61 @@
+package test.unit;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A test standing for a test of a {@link SuiteProvider}, which runs it in a worker JVM rather than executing it
+ * (see {@link Isolation} and {@link WorkerPool}). The worker, which built the same suites, finds the original test
+ * by the index of its suite and its index among the items of that suite.
+ *
+ * @author Pepe Gallardo & Gemini
+ */
+abstract class MirroredTest extends Test {
+
+    /** Builds the test standing for a test of the provider. */
+    @FunctionalInterface
+    interface Factory {
+        MirroredTest create(Test original, int suiteIndex, int itemIndex);
+    }
+
+    protected final Test original;
+    protected final int suiteIndex;
+    protected final int itemIndex;
+
+    protected MirroredTest(Test original, int suiteIndex, int itemIndex) {
+        super(original.getName(), original.getTimeoutOverride());
+        this.original = original;
+        this.suiteIndex = suiteIndex;
+        this.itemIndex = itemIndex;
+    }
+
+    @Override
+    protected String expectationDescription(Config config) {
+        return original.expectationDescription(config);
+    }
+
+    /**
+     * Builds the mirrors of the suites of a provider, in which every test is replaced by the test standing for it,
+     * and info messages are kept as they are.
+     *
+     * @param originals The suites of the provider, in the order of {@link SuiteProvider#suites()}.
+     * @param factory Builds the test standing for each test.
+     * @return The mirrors, in the same order.
+     */
+    static List<TestSuite> mirror(List<TestSuite> originals, Factory factory) {
+        List<TestSuite> mirrors = new ArrayList<>(originals.size());
+        for (int suiteIndex = 0; suiteIndex < originals.size(); suiteIndex++) {
+            TestSuite original = originals.get(suiteIndex);
+            List<SuiteItem> items = new ArrayList<>(original.getItems().size());
+            for (int itemIndex = 0; itemIndex < original.getItems().size(); itemIndex++) {
+                SuiteItem item = original.getItems().get(itemIndex);
+                items.add(switch (item) {
+                    case Test test -> factory.create(test, suiteIndex, itemIndex);
+                    case InfoMessage msg -> msg;
+                });
+            }
+            mirrors.add(new TestSuite(original.getName(), items));
+        }
+        return mirrors;
+    }
+}
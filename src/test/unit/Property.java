@@ -1,5 +1,6 @@
 package test.unit;
 
+import java.time.Duration;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.*;
@@ -27,9 +28,9 @@ public class Property<T> extends Test {
     protected final Supplier<T> toEvaluate;
     protected final Predicate<T> property;
     protected final Optional<Function<T, String>> mkStringOpt;
-    protected final Optional<Function<T, String>> mkStringKeyOpt; // Function returns the key string
+    protected final Optional<Function<T, Message>> mkStringKeyOpt; // Function returns the message
     protected final Optional<String> helpOpt;
-    protected final Optional<String> helpKeyOpt;
+    protected final Optional<Message> helpKeyOpt;
 
     /**
      * Protected constructor for Property tests. Use static factory methods.
@@ -38,10 +39,10 @@ public class Property<T> extends Test {
                        Supplier<T> toEvaluate,
                        Predicate<T> property,
                        Optional<Function<T, String>> mkStringOpt,
-                       Optional<Function<T, String>> mkStringKeyOpt,
+                       Optional<Function<T, Message>> mkStringKeyOpt,
                        Optional<String> helpOpt,
-                       Optional<String> helpKeyOpt,
-                       Optional<Integer> timeoutOverride) {
+                       Optional<Message> helpKeyOpt,
+                       Optional<Duration> timeoutOverride) {
         super(name, timeoutOverride);
         this.toEvaluate = Objects.requireNonNull(toEvaluate, "Supplier 'toEvaluate' cannot be null");
         this.property = Objects.requireNonNull(property, "Predicate 'property' cannot be null");
@@ -63,7 +64,7 @@ public class Property<T> extends Test {
     private String generatePropertyDescription(Config config) {
         var logger = config.logger();
         // Base failure message (e.g., "Does not verify expected property")
-        var baseMessage = config.msg("property.failure.base");
+        var baseMessage = config.msg(Message.PROPERTY_FAILURE_BASE);
 
         // Determine the help detail text, preferring direct 'help' over 'helpKey'
         Optional<String> helpDetailColoredOpt = helpOpt // Use direct help string if available
@@ -72,7 +73,7 @@ public class Property<T> extends Test {
 
         // Combine base message and the optional, colored help detail
         return helpDetailColoredOpt
-                .map(detail -> baseMessage + config.msg("property.failure.suffix", detail)) // Append suffix + colored detail
+                .map(detail -> config.appendMsg(new StringBuilder(baseMessage), Message.PROPERTY_FAILURE_SUFFIX, detail).toString()) // Append suffix + colored detail
                 .orElse(baseMessage); // Just the base message
     }
 
@@ -87,57 +88,41 @@ public class Property<T> extends Test {
     private String formatResult(T result, Config config) {
         return mkStringOpt
                 .map(func -> func.apply(result)) // 1. Try direct mkString function
-                .or(() -> mkStringKeyOpt.map(keyFunc -> config.msg(keyFunc.apply(result)))) // 2. Try mkStringKey function to get I18n key
+                .or(() -> mkStringKeyOpt.map(keyFunc -> config.msg(keyFunc.apply(result)))) // 2. Try mkStringKey function to get I18n message
                 .orElse(Objects.toString(result, "null")); // 3. Fallback to standard toString (null-safe)
     }
 
 
+    @Override
+    protected String expectationDescription(Config config) {
+        return generatePropertyDescription(config);
+    }
+
     /**
-     * Executes the core logic of the `Property` test asynchronously.
+     * Executes the core logic of the `Property` test, blocking until its asynchronous evaluation completes.
      */
     @Override
     protected TestResult executeTest(Config config) {
-        final String currentPropertyDesc = generatePropertyDescription(config); // Generate once before async
-
-        CompletableFuture<TestResult> future = CompletableFuture.supplyAsync(() -> {
-            try {
-                T result = toEvaluate.get(); // Evaluate the expression
-                if (property.test(result)) {
-                    // Property holds true
-                    return new TestResult.Success();
-                } else {
-                    // Property failed
-                    Function<T, String> formatter = r -> formatResult(r, config); // Use the helper method
-                    return new TestResult.PropertyFailure<>(formatter, currentPropertyDesc);
-                }
-            } catch (Throwable t) {
-                 // Handle potential exceptions during evaluation
-                 if (t instanceof InterruptedException) {
-                     Thread.currentThread().interrupt();
-                 }
-                 return new TestResult.UnexpectedExceptionFailure(t, currentPropertyDesc);
+        return await(executeTestAsync(config), this::generatePropertyDescription);
+    }
+
+    /**
+     * Starts evaluating the expression and checking the property on the {@link TestExecutor} of the config.
+     */
+    @Override
+    protected CompletableFuture<TestResult> executeTestAsync(Config config) {
+        CompletableFuture<TestResult> future = AsyncEvaluation.submit(config, toEvaluate, result -> {
+            if (property.test(result)) {
+                // Property holds true
+                return TestResult.SUCCESS;
+            } else {
+                // Property failed
+                Function<T, String> formatter = r -> formatResult(r, config); // Use the helper method
+                return new TestResult.PropertyFailure<>(formatter, this::generatePropertyDescription);
             }
-        });
-
-         try {
-            // Wait for the future to complete, respecting the timeout
-            return future.get(config.timeout(), TimeUnit.SECONDS);
-        } catch (TimeoutException e) {
-            future.cancel(true);
-            return new TestResult.TimeoutFailure(config.timeout(), currentPropertyDesc);
-        } catch (ExecutionException e) {
-            Throwable cause = (e.getCause() != null) ? e.getCause() : e;
-             if (cause instanceof InterruptedException) {
-                 Thread.currentThread().interrupt();
-             }
-            return new TestResult.UnexpectedExceptionFailure(cause, currentPropertyDesc);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            future.cancel(true);
-             return new TestResult.UnexpectedExceptionFailure(e, currentPropertyDesc);
-        } catch (CancellationException e) {
-             return new TestResult.TimeoutFailure(config.timeout(), currentPropertyDesc);
-        }
+        }, thrown -> new TestResult.UnexpectedExceptionFailure(thrown, this::generatePropertyDescription)); // Evaluation failed
+
+        return outcomeOf(future, config.timeout(), this::generatePropertyDescription, this::generatePropertyDescription);
     }
 
     // --- Static Factory Methods ---
@@ -154,9 +139,9 @@ public class Property<T> extends Test {
     static <T> Property<T> fromKeyBased(String name,
                                         Supplier<T> toEvaluate,
                                         Predicate<T> property,
-                                        Function<T, String> mkStringKey, // function returns the I18N key
-                                        String helpKey,
-                                        Optional<Integer> timeoutOverride) {
+                                        Function<T, Message> mkStringKey, // function returns the I18N message
+                                        Message helpKey,
+                                        Optional<Duration> timeoutOverride) {
         return new Property<>(
                 name,
                 toEvaluate,
@@ -180,7 +165,7 @@ public class Property<T> extends Test {
                                          Predicate<T> property,
                                          Optional<Function<T, String>> mkStringOpt,
                                          Optional<String> helpOpt,
-                                         Optional<Integer> timeoutOverride) {
+                                         Optional<Duration> timeoutOverride) {
          // Use default toString only if NO mkStringOpt AND NO key options are provided (which is not possible via this public factory)
          // Assert/Refute use the key-based factory, so this default logic is simpler here.
          Optional<Function<T, String>> finalMkString = mkStringOpt.isPresent() ? mkStringOpt : Optional.of(defaultMkString());
@@ -222,7 +207,7 @@ public class Property<T> extends Test {
                                           Supplier<T> toEvaluate,
                                           Predicate<T> property,
                                           int timeoutOverride) {
-         return create(name, toEvaluate, property, Optional.empty(), Optional.empty(), Optional.of(timeoutOverride));
+         return create(name, toEvaluate, property, Optional.empty(), Optional.empty(), Optional.of(Duration.ofSeconds(timeoutOverride)));
      }
 
      public static <T> Property<T> create(String name,
@@ -230,7 +215,7 @@ public class Property<T> extends Test {
                                           Predicate<T> property,
                                           Function<T, String> mkString,
                                           int timeoutOverride) {
-          return create(name, toEvaluate, property, Optional.of(mkString), Optional.empty(), Optional.of(timeoutOverride));
+          return create(name, toEvaluate, property, Optional.of(mkString), Optional.empty(), Optional.of(Duration.ofSeconds(timeoutOverride)));
      }
 
      public static <T> Property<T> create(String name,
@@ -238,7 +223,7 @@ public class Property<T> extends Test {
                                           Predicate<T> property,
                                           String help,
                                           int timeoutOverride) {
-          return create(name, toEvaluate, property, Optional.empty(), Optional.of(help), Optional.of(timeoutOverride));
+          return create(name, toEvaluate, property, Optional.empty(), Optional.of(help), Optional.of(Duration.ofSeconds(timeoutOverride)));
      }
 
      public static <T> Property<T> create(String name,
@@ -247,6 +232,6 @@ public class Property<T> extends Test {
                                           Function<T, String> mkString,
                                           String help,
                                           int timeoutOverride) {
-          return create(name, toEvaluate, property, Optional.of(mkString), Optional.of(help), Optional.of(timeoutOverride));
+          return create(name, toEvaluate, property, Optional.of(mkString), Optional.of(help), Optional.of(Duration.ofSeconds(timeoutOverride)));
      }
 }
@@ -1,13 +1,17 @@
 package test.unit;
 
+import java.time.Duration;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
  * Encapsulates the aggregated results of running a {@link TestSuite}.
- * It stores the individual {@link TestResult} outcomes and provides methods
- * to query statistics like passed/failed counts and success rate.
+ * It stores the individual {@link TestResult} outcomes, along with the name and {@link Timing} of the test
+ * that produced each of them, and provides methods to query statistics like passed/failed/skipped counts,
+ * success rate and percentiles of the test durations.
  * <p>
  * Generating a string representation ({@code mkString} or {@code toString}) requires
  * a {@link Config} instance to handle localization and coloring of the summary.
@@ -16,43 +20,82 @@ import java.util.stream.Collectors;
  */
 public final class Results { // Made final as it represents a completed state
 
+    private final Optional<String> suiteName;
+    private final List<TimedResult> timedResults;
     private final List<TestResult> results; // Use immutable List internally
+    private final List<Duration> sortedWallTimes;
     private final int passed;
     private final int failed;
+    private final int skipped;
     private final int total;
     private final double successRate;
     private final String details;
 
     /**
-     * Constructor for Results. It calculates statistics immediately.
+     * Constructor for Results, for outcomes whose test names and timings are unknown. It calculates statistics immediately.
      * @param resultsList The list of individual test results. Must not be null. Copied defensively.
      */
     public Results(List<TestResult> resultsList) {
-        Objects.requireNonNull(resultsList, "resultsList cannot be null");
-        this.results = List.copyOf(resultsList); // Create immutable copy
+        this(Optional.empty(), Objects.requireNonNull(resultsList, "resultsList cannot be null").stream()
+                .map(result -> new TimedResult("", result, Timing.NONE))
+                .toList());
+    }
+
+    private Results(Optional<String> suiteName, List<TimedResult> timedResultsList) {
+        this.suiteName = suiteName;
+        this.timedResults = List.copyOf(timedResultsList); // Create immutable copy
+        this.results = this.timedResults.stream().map(TimedResult::result).toList();
+        this.sortedWallTimes = this.timedResults.stream()
+                                                .filter(timed -> !timed.result().isSkipped()) // Never run
+                                                .map(timed -> timed.timing().wall())
+                                                .sorted()
+                                                .toList();
 
         this.passed = (int) this.results.stream().filter(TestResult::isSuccess).count();
-        this.failed = this.results.size() - this.passed;
+        this.skipped = (int) this.results.stream().filter(TestResult::isSkipped).count();
+        this.failed = this.results.size() - this.passed - this.skipped;
         this.total = this.results.size();
         this.successRate = (total == 0) ? 1.0 : (double) passed / total;
         this.details = this.results.stream()
-                                   .map(result -> result.isSuccess() ? "+" : "-")
+                                   .map(result -> result.isSuccess() ? "+" : result.isSkipped() ? "." : "-")
                                    .collect(Collectors.joining());
     }
 
+    /**
+     * Creates the Results of a suite from the named and timed outcomes of its tests.
+     *
+     * @param suiteName The name of the suite that was run. Must not be null.
+     * @param timedResultsList The timed results of its tests, in declaration order. Must not be null. Copied defensively.
+     * @return The aggregated results.
+     */
+    public static Results ofTimed(String suiteName, List<TimedResult> timedResultsList) {
+        Objects.requireNonNull(suiteName, "suiteName cannot be null");
+        Objects.requireNonNull(timedResultsList, "timedResultsList cannot be null");
+        return new Results(Optional.of(suiteName), timedResultsList);
+    }
+
+    /** Returns the name of the suite these results belong to, if known. */
+    public Optional<String> getSuiteName() { return suiteName; }
+
+    /** Returns the timed results of the individual tests, in declaration order. */
+    public List<TimedResult> getTimedResults() { return timedResults; }
+
     /** Returns the total number of tests that passed successfully. */
     public int getPassed() { return passed; }
 
-    /** Returns the total number of tests that failed. */
+    /** Returns the total number of tests that failed. Skipped tests are not counted as failed. */
     public int getFailed() { return failed; }
 
-    /** Returns the total number of tests executed in the suite. */
+    /** Returns the total number of tests skipped because a limit of failures was reached (see {@link TestResult.Skipped}). */
+    public int getSkipped() { return skipped; }
+
+    /** Returns the total number of tests in the suite, including skipped ones. */
     public int getTotal() { return total; }
 
     /**
      * Returns a compact string showing the outcome of each test.
-     * Uses '+' for success and '-' for failure. Does not include color.
-     * Example: {@code "+-++-"}
+     * Uses '+' for success, '-' for failure and '.' for a skipped test. Does not include color.
+     * Example: {@code "+-++-.."}
      *
      * @return A string summarizing individual test outcomes.
      */
@@ -61,9 +104,9 @@ public final class Results { // Made final as it represents a completed state
     /**
      * Checks if all tests within the suite passed.
      *
-     * @return {@code true} if {@code getFailed} is 0, {@code false} otherwise.
+     * @return {@code true} if {@code getFailed} and {@code getSkipped} are 0, {@code false} otherwise.
      */
-    public boolean isSuccessful() { return failed == 0; }
+    public boolean isSuccessful() { return failed == 0 && skipped == 0; }
 
     /**
      * Returns the success rate as a fraction between 0.0 and 1.0.
@@ -73,9 +116,50 @@ public final class Results { // Made final as it represents a completed state
      */
     public double getSuccessRate() { return successRate; }
 
+    /**
+     * Returns the given percentile of the wall times of the tests, using the nearest-rank method.
+     * Skipped tests, which never ran, are left out. Returns {@link Duration#ZERO} if no tests were run.
+     *
+     * @param percentile The percentile to compute, between 0 (exclusive) and 100 (inclusive).
+     * @return The wall time below or at which {@code percentile} percent of the tests completed.
+     */
+    public Duration getWallTimePercentile(double percentile) {
+        if (percentile <= 0 || percentile > 100) {
+            throw new IllegalArgumentException("percentile must be in (0, 100]");
+        }
+        if (sortedWallTimes.isEmpty()) {
+            return Duration.ZERO;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * sortedWallTimes.size());
+        return sortedWallTimes.get(Math.max(rank, 1) - 1);
+    }
+
+    /** Returns the median (50th percentile) of the wall times of the tests. */
+    public Duration getMedianWallTime() { return getWallTimePercentile(50); }
+
+    /** Returns the 95th percentile of the wall times of the tests. */
+    public Duration getP95WallTime() { return getWallTimePercentile(95); }
+
+    /** Returns the longest wall time among the tests, or {@link Duration#ZERO} if no tests were run. */
+    public Duration getMaxWallTime() { return getWallTimePercentile(100); }
+
+    /**
+     * Returns the timed results of the slowest tests, by decreasing wall time. Skipped tests are left out.
+     *
+     * @param count The maximum number of results to return.
+     * @return Up to {@code count} timed results.
+     */
+    public List<TimedResult> getSlowest(int count) {
+        return timedResults.stream()
+                           .filter(timed -> !timed.result().isSkipped())
+                           .sorted(Comparator.comparing((TimedResult timed) -> timed.timing().wall()).reversed())
+                           .limit(count)
+                           .toList();
+    }
+
     /**
      * Generates a formatted, localized, and potentially colored string summarizing
-     * the test suite results (passed, failed, total counts, and details).
+     * the test suite results (passed, failed, skipped if any, total counts, and details).
      * <p>
      * Requires a {@link Config} to access the logger (for coloring) and
      * localization messages (for labels like "Passed", "Failed").
@@ -88,29 +172,35 @@ public final class Results { // Made final as it represents a completed state
         var logger = config.logger();
 
         // Get localized labels from config
-        var passedLabel = config.msg("results.passed");
-        var failedLabel = config.msg("results.failed");
-        var totalLabel = config.msg("results.total");
-        var detailLabel = config.msg("results.detail");
-
-        // Format parts with appropriate colors using the logger
-        var passedPart = String.format("%s: %s", logger.green(passedLabel), logger.green(Integer.toString(passed)));
-        var failedPart = String.format("%s: %s", logger.red(failedLabel), logger.red(Integer.toString(failed)));
+        var passedLabel = config.msg(Message.RESULTS_PASSED);
+        var failedLabel = config.msg(Message.RESULTS_FAILED);
+        var totalLabel = config.msg(Message.RESULTS_TOTAL);
+        var detailLabel = config.msg(Message.RESULTS_DETAIL);
+
+        // Append parts with appropriate colors using the logger, straight into the final summary string
+        var summary = new StringBuilder();
+        summary.append(logger.green(passedLabel)).append(": ").append(logger.green(Integer.toString(passed)));
+        summary.append(", ").append(logger.red(failedLabel)).append(": ").append(logger.red(Integer.toString(failed)));
+        // Only mentioned when some tests were skipped, so summaries of complete runs are unchanged
+        if (skipped != 0) {
+            summary.append(", ").append(logger.blue(config.msg(Message.RESULTS_SKIPPED)))
+                   .append(": ").append(logger.blue(Integer.toString(skipped)));
+        }
+        summary.append(", ").append(totalLabel).append(": ").append(total);
+        summary.append(", ").append(detailLabel).append(": ");
 
         // Color the detail string (+/-) based on individual results
         // The details string is pre-calculated, just need to color it
-        StringBuilder coloredDetails = new StringBuilder();
          for (int i = 0; i < this.details.length(); i++) {
              if (this.details.charAt(i) == '+') {
-                 coloredDetails.append(logger.green("+"));
+                 summary.append(logger.green("+"));
+             } else if (this.details.charAt(i) == '.') {
+                 summary.append(logger.blue("."));
              } else {
-                 coloredDetails.append(logger.red("-"));
+                 summary.append(logger.red("-"));
              }
          }
-
-        // Combine all parts into the final summary string
-        return String.format("%s, %s, %s: %d, %s: %s",
-                             passedPart, failedPart, totalLabel, total, detailLabel, coloredDetails);
+        return summary.toString();
     }
 
     /**
@@ -0,0 +1,133 @@
+package test.unit;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A bounded queue, preallocated as a ring of slots, that many threads can add to without taking any lock, and that
+ * a single consumer thread takes from, in order (see {@link ListenerDispatcher} and {@link Logger.AsyncConsoleLogger}).
+ * <p>
+ * A producer claims a slot by advancing the shared tail with a compare-and-set, stores its element, and then
+ * releases the slot by bumping its sequence number, which is what the consumer waits for before taking the element
+ * (as in Vyukov's bounded queue). The consumer parks when the ring stays empty for a while, and is only unparked by
+ * a producer that sees it parked.
+ *
+ * @param <E> The type of the elements.
+ * @author Pepe Gallardo & Gemini
+ */
+final class RingBuffer<E> {
+
+    /** Time a producer waits before trying again to add to a full ring. */
+    private static final long FULL_WAIT_NANOS = 10_000;
+
+    /** Number of times the consumer yields, when it finds the ring empty, before parking. */
+    private static final int IDLE_YIELDS = 50;
+
+    private final int mask;
+    private final Object[] elements;
+    // The slot at position p can be added to when its sequence is p, and taken from when it is p + 1
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong(); // Position of the next element to add
+    private long head = 0; // Position of the next element to take, only touched by the consumer
+    private volatile Thread parkedConsumer = null;
+
+    /**
+     * Creates an empty ring.
+     *
+     * @param capacity The maximum number of elements in the ring. Must be a power of two.
+     */
+    RingBuffer(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("capacity must be a power of two");
+        }
+        this.mask = capacity - 1;
+        this.elements = new Object[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Adds an element, unless the ring is full.
+     *
+     * @param element The element to add. Must not be null.
+     * @return {@code true} if it was added, {@code false} if the ring was full.
+     */
+    boolean offer(E element) {
+        while (true) {
+            long position = tail.get();
+            int slot = (int) (position & mask);
+            long sequence = sequences.get(slot);
+            if (sequence == position) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    elements[slot] = element;
+                    sequences.set(slot, position + 1); // Publishes the element to the consumer
+                    Thread consumer = parkedConsumer;
+                    if (consumer != null) {
+                        LockSupport.unpark(consumer);
+                    }
+                    return true;
+                }
+            } else if (sequence < position) {
+                return false; // The slot still holds the element added a whole ring ago
+            }
+            // Otherwise another producer claimed this position first: try the next one
+        }
+    }
+
+    /**
+     * Adds an element, waiting for the consumer to make room if the ring is full.
+     *
+     * @param element The element to add. Must not be null.
+     */
+    void put(E element) {
+        while (!offer(element)) {
+            LockSupport.parkNanos(FULL_WAIT_NANOS);
+        }
+    }
+
+    /**
+     * Takes the oldest element, if any. Only to be called by the consumer.
+     *
+     * @return The element, or null if the ring is empty.
+     */
+    @SuppressWarnings("unchecked")
+    E poll() {
+        int slot = (int) (head & mask);
+        if (sequences.get(slot) != head + 1) {
+            return null;
+        }
+        E element = (E) elements[slot];
+        elements[slot] = null;
+        sequences.set(slot, head + elements.length); // Frees the slot for the producer that wraps around to it
+        head++;
+        return element;
+    }
+
+    /**
+     * Takes the oldest element, waiting for one if the ring is empty. Only to be called by the consumer.
+     *
+     * @param nanos The maximum time to wait, in nanoseconds.
+     * @return The element, or null if none was added in time (or, rarely, if the wait ended early).
+     */
+    E poll(long nanos) {
+        E element = poll();
+        // Elements often come in bursts: yielding a few times before parking saves unparking for each one
+        for (int spins = 0; element == null && spins < IDLE_YIELDS; spins++) {
+            Thread.yield();
+            element = poll();
+        }
+        if (element == null && nanos > 0) {
+            parkedConsumer = Thread.currentThread();
+            element = poll(); // An element added before the consumer was seen parked would not unpark it
+            if (element == null) {
+                LockSupport.parkNanos(this, nanos);
+                element = poll();
+            }
+            parkedConsumer = null;
+        }
+        return element;
+    }
+}
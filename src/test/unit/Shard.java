@@ -0,0 +1,160 @@
+package test.unit;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.zip.CRC32;
+
+/**
+ * One of the {@code count} parts in which a run of {@link TestSuite#runAll(Config, TestSuite...)} is split, so that
+ * each part can be run by a different process (e.g., several JVMs on the same host, or several CI runners).
+ * <p>
+ * Every test is assigned to exactly one shard by a stable hash of the name of its suite and its own name, or by a
+ * {@link ShardPlan} balancing the durations of the shards, so all the processes agree on the split without talking
+ * to each other, as long as they build the same suites and use the same plan. A sharded run
+ * only executes the tests of its shard, and saves their results to {@code resultsFile}; the files of all the shards
+ * are then combined by {@link TestSuite#mergeShards(Config, Path...)} into the results of the whole run.
+ *
+ * @param index The number of this shard, from {@code 1} to {@code count}.
+ * @param count The total number of shards of the run.
+ * @param resultsFile The file where the results of this shard are saved.
+ * @param plan The optional plan assigning tests to shards. Tests it does not cover are assigned by hash.
+ * @author Pepe Gallardo & Gemini
+ */
+public record Shard(int index, int count, Path resultsFile, Optional<ShardPlan> plan) {
+
+    /**
+     * Canonical constructor with validations. This is invoked automatically.
+     */
+    public Shard {
+        if (count <= 0) {
+            throw new IllegalArgumentException("count must be positive");
+        }
+        if (index < 1 || index > count) {
+            throw new IllegalArgumentException("index must be between 1 and count");
+        }
+        Objects.requireNonNull(resultsFile, "resultsFile cannot be null");
+        Objects.requireNonNull(plan, "plan Optional cannot be null");
+        if (plan.filter(p -> p.getCount() != count).isPresent()) {
+            throw new IllegalArgumentException("plan is for " + plan.get().getCount() + " shards, not " + count);
+        }
+    }
+
+    /**
+     * Constructor for shards assigning every test by hash.
+     */
+    public Shard(int index, int count, Path resultsFile) {
+        this(index, count, resultsFile, Optional.empty());
+    }
+
+    /**
+     * Creates a copy of this shard, assigning tests according to the given plan.
+     *
+     * @param plan The plan, made for {@code count} shards. Must not be null.
+     * @return The new shard.
+     */
+    public Shard withPlan(ShardPlan plan) {
+        Objects.requireNonNull(plan, "plan cannot be null");
+        return new Shard(index, count, resultsFile, Optional.of(plan));
+    }
+
+    /**
+     * Parses a shard given as {@code "i/n"}, as in a {@code --shard i/n} command line option.
+     *
+     * @param spec The number of the shard and the number of shards, separated by a slash (e.g., {@code "2/4"}).
+     * @param resultsFile The file where the results of the shard are saved. Must not be null.
+     * @return The shard.
+     * @throws IllegalArgumentException If {@code spec} is not well-formed.
+     */
+    public static Shard parse(String spec, Path resultsFile) {
+        int[] indexAndCount = indexAndCount(spec);
+        return new Shard(indexAndCount[0], indexAndCount[1], resultsFile);
+    }
+
+    // The number of the shard and the number of shards in an "i/n" spec
+    private static int[] indexAndCount(String spec) {
+        Objects.requireNonNull(spec, "spec cannot be null");
+        String[] parts = spec.trim().split("/");
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("shard must be given as i/n, but was: " + spec);
+        }
+        try {
+            return new int[] {Integer.parseInt(parts[0].trim()), Integer.parseInt(parts[1].trim())};
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("shard must be given as i/n, but was: " + spec, e);
+        }
+    }
+
+    /**
+     * Finds the {@code --shard i/n} (or {@code --shard=i/n}) option among command line arguments.
+     * The results of the shard are saved to {@code resultsFile}, or to {@code "shard-i-of-n.results"} in the
+     * current directory if no {@code --shard-results <file>} (or {@code --shard-results=<file>}) option is given.
+     * If a {@code --shard-plan <file>} (or {@code --shard-plan=<file>}) option is given, the {@link ShardPlan} saved
+     * in that file is used.
+     *
+     * @param args The command line arguments.
+     * @return The shard, or empty if there is no {@code --shard} option.
+     * @throws IllegalArgumentException If the options are given but not well-formed.
+     * @throws java.io.UncheckedIOException If the plan cannot be read.
+     */
+    public static Optional<Shard> fromArgs(String... args) {
+        Objects.requireNonNull(args, "args cannot be null");
+        Optional<String> spec = option(args, "--shard");
+        Optional<String> file = option(args, "--shard-results");
+        Optional<String> planFile = option(args, "--shard-plan");
+        return spec.map(value -> {
+            int[] indexAndCount = indexAndCount(value);
+            String resultsFile = file.orElseGet(() -> "shard-" + indexAndCount[0] + "-of-" + indexAndCount[1] + ".results");
+            var shard = new Shard(indexAndCount[0], indexAndCount[1], Path.of(resultsFile));
+            return planFile.map(plan -> ShardPlan.load(Path.of(plan))).map(shard::withPlan).orElse(shard);
+        });
+    }
+
+    private static Optional<String> option(String[] args, String name) {
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals(name)) {
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException("missing value for option " + name);
+                }
+                return Optional.of(args[i + 1]);
+            }
+            if (args[i].startsWith(name + "=")) {
+                return Optional.of(args[i].substring(name.length() + 1));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Indicates whether a test belongs to this shard.
+     *
+     * @param suiteName The name of the suite of the test.
+     * @param testName The name of the test.
+     * @return {@code true} if the test is run by this shard.
+     */
+    public boolean owns(String suiteName, String testName) {
+        int shard = plan.map(p -> p.shardOf(suiteName, testName))
+                        .filter(OptionalInt::isPresent)
+                        .map(OptionalInt::getAsInt)
+                        .orElseGet(() -> hashed(suiteName, testName, count));
+        return shard == index;
+    }
+
+    /**
+     * Gets the shard to which a test is assigned by hash.
+     *
+     * @param suiteName The name of the suite of the test.
+     * @param testName The name of the test.
+     * @param count The number of shards.
+     * @return The number of the shard, from {@code 1} to {@code count}.
+     */
+    static int hashed(String suiteName, String testName, int count) {
+        var crc = new CRC32(); // Well defined on every JVM, and unrelated to the order of similar names such as "test1", "test2"
+        crc.update(suiteName.getBytes(StandardCharsets.UTF_8));
+        crc.update(0); // Separates the names, so that ("ab", "c") and ("a", "bc") hash differently
+        crc.update(testName.getBytes(StandardCharsets.UTF_8));
+        return (int) (crc.getValue() % count) + 1;
+    }
+}
@@ -0,0 +1,181 @@
+package test.unit;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * An assignment of tests to {@link Shard}s balancing their predicted durations, so that all the shards of a run
+ * finish at about the same time.
+ * <p>
+ * A plan is made by {@link #plan(int, Path, TestSuite...)} from the durations kept in a history file (see
+ * {@link Config#historyFile()}), using the longest-processing-time rule: from the longest test to the shortest, each
+ * test goes to the shard with the least predicted work so far. Tests with no history are left out of the plan, and
+ * are assigned by the hash of {@link Shard#owns(String, String)} instead, both when planning and when running; they
+ * are predicted to take the median duration of the known tests, so the planner balances the rest around them.
+ * The same goes for tests added after the plan was made, so a stale plan is never wrong, only less balanced.
+ * <p>
+ * The plan is saved to a {@link Properties} file, with the number of shards under {@code shards} and, for every
+ * planned test, its shard number keyed by the names of its suite and itself. Runners load it with {@link #load(Path)}
+ * (or the {@code --shard-plan} option of {@link Shard#fromArgs(String...)}) and pass it to their {@link Shard}.
+ *
+ * @author Pepe Gallardo & Gemini
+ */
+public final class ShardPlan {
+
+    private static final String SHARDS_KEY = "shards"; // Keys of tests always contain " / ", so this one cannot clash
+
+    private final int count;
+    private final Map<String, Integer> shards; // Shard number of each planned test
+    private final List<Duration> predicted; // Predicted duration of each shard, if known
+
+    private ShardPlan(int count, Map<String, Integer> shards, List<Duration> predicted) {
+        this.count = count;
+        this.shards = Map.copyOf(shards);
+        this.predicted = List.copyOf(predicted);
+    }
+
+    /**
+     * Plans the assignment of the tests of the given suites to {@code count} shards, balancing their durations.
+     *
+     * @param count The number of shards (must be positive).
+     * @param historyFile The file holding the durations of previous runs. It need not exist, in which case every
+     *                    test is assigned by hash. Must not be null.
+     * @param testSuites The suites of the run (varargs). Must not be null or contain nulls.
+     * @return The plan.
+     */
+    public static ShardPlan plan(int count, Path historyFile, TestSuite... testSuites) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("count must be positive");
+        }
+        Objects.requireNonNull(historyFile, "historyFile cannot be null");
+        Objects.requireNonNull(testSuites, "TestSuite array cannot be null");
+        TestHistory history = TestHistory.of(historyFile);
+
+        // 1. Split the tests into those with a known duration, in run order, and the others
+        record Known(String key, long nanos) {}
+        List<Known> known = new ArrayList<>();
+        List<String[]> unknown = new ArrayList<>(); // Suite name and test name
+        for (TestSuite suite : testSuites) {
+            for (SuiteItem item : suite.getItems()) {
+                if (item instanceof Test test) {
+                    OptionalLong nanos = history.estimatedNanos(suite.getName(), test.getName());
+                    if (nanos.isPresent()) {
+                        known.add(new Known(TestHistory.key(suite.getName(), test.getName()), nanos.getAsLong()));
+                    } else {
+                        unknown.add(new String[] {suite.getName(), test.getName()});
+                    }
+                }
+            }
+        }
+
+        // 2. Predict the load each shard gets from the tests assigned by hash
+        long[] load = new long[count];
+        long median = known.isEmpty() ? 0 : known.stream().mapToLong(Known::nanos).sorted().toArray()[known.size() / 2];
+        for (String[] names : unknown) {
+            load[Shard.hashed(names[0], names[1], count) - 1] += median;
+        }
+
+        // 3. Longest processing time first: the next longest test goes to the least loaded shard (the first one on ties)
+        PriorityQueue<Integer> leastLoaded = new PriorityQueue<>(
+                Comparator.<Integer>comparingLong(shard -> load[shard]).thenComparingInt(shard -> shard));
+        for (int shard = 0; shard < count; shard++) {
+            leastLoaded.add(shard);
+        }
+        Map<String, Integer> shards = new HashMap<>();
+        known.sort(Comparator.comparingLong(Known::nanos).reversed()); // Stable, so ties keep run order
+        for (Known test : known) {
+            int shard = leastLoaded.poll();
+            shards.put(test.key(), shard + 1);
+            load[shard] += test.nanos();
+            leastLoaded.add(shard);
+        }
+        return new ShardPlan(count, shards, Arrays.stream(load).mapToObj(Duration::ofNanos).toList());
+    }
+
+    /**
+     * Loads a plan saved by {@link #save(Path)}.
+     *
+     * @param file The file holding the plan. Must not be null.
+     * @return The plan. Its predicted durations are not saved, so they are unknown.
+     * @throws UncheckedIOException If the file cannot be read.
+     * @throws IllegalArgumentException If the file is not a well-formed plan.
+     */
+    public static ShardPlan load(Path file) {
+        Objects.requireNonNull(file, "file cannot be null");
+        var properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read the shard plan " + file, e);
+        }
+        try {
+            int count = Integer.parseInt(Objects.requireNonNull(properties.getProperty(SHARDS_KEY), "missing number of shards"));
+            if (count <= 0) {
+                throw new IllegalArgumentException("number of shards must be positive");
+            }
+            Map<String, Integer> shards = new HashMap<>();
+            for (String key : properties.stringPropertyNames()) {
+                if (!key.equals(SHARDS_KEY)) {
+                    int shard = Integer.parseInt(properties.getProperty(key));
+                    if (shard < 1 || shard > count) {
+                        throw new IllegalArgumentException("shard " + shard + " out of range for " + key);
+                    }
+                    shards.put(key, shard);
+                }
+            }
+            return new ShardPlan(count, shards, List.of());
+        } catch (RuntimeException e) { // NumberFormatException and NullPointerException included
+            throw new IllegalArgumentException(file + " is not a well-formed shard plan: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Saves this plan, to be loaded by the runners of the shards.
+     *
+     * @param file The file to write. Must not be null.
+     * @throws UncheckedIOException If the file cannot be written.
+     */
+    public void save(Path file) {
+        Objects.requireNonNull(file, "file cannot be null");
+        var properties = new Properties();
+        properties.setProperty(SHARDS_KEY, Integer.toString(count));
+        shards.forEach((key, shard) -> properties.setProperty(key, Integer.toString(shard)));
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            properties.store(writer, "Shard of each test, balancing their durations");
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot save the shard plan " + file, e);
+        }
+    }
+
+    /** Gets the number of shards of this plan. */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Gets the predicted duration of each shard, in shard order, including the tests assigned by hash.
+     * Empty for a loaded plan.
+     */
+    public List<Duration> getPredictedDurations() {
+        return predicted;
+    }
+
+    /**
+     * Gets the shard to which a test is assigned by this plan.
+     *
+     * @param suiteName The name of the suite of the test.
+     * @param testName The name of the test.
+     * @return The number of its shard, from {@code 1} to {@code getCount()}, or empty if the test is not planned.
+     */
+    public OptionalInt shardOf(String suiteName, String testName) {
+        Integer shard = shards.get(TestHistory.key(suiteName, testName));
+        return (shard == null) ? OptionalInt.empty() : OptionalInt.of(shard);
+    }
+}
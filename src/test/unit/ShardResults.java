@@ -0,0 +1,195 @@
+package test.unit;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The results of the tests run by a {@link Shard}, in the form in which they are saved to its results file,
+ * and the merge of the results of all the shards of a run.
+ * <p>
+ * Only what the summaries of a run need is kept: for each test, its position among the tests of its suite, its name,
+ * its {@link Timing}, and whether it passed, was skipped, or failed, in which case the simple name of its failure
+ * record and its message, already rendered, are kept as a {@link TestResult.RemoteFailure}. Suites are kept in run
+ * order, even those with no tests in the shard, so merging the shards restores both the order of the suites and
+ * the declaration order of the tests within each suite.
+ * <p>
+ * The file is made of {@code DataOutputStream} primitives, with strings written as in {@link ForkedWorker}:
+ * a header ({@code int} {@link #MAGIC}, {@code int} shard index, {@code int} shard count, {@code int} number of suites),
+ * then, per suite, its {@code string} name, its {@code int} number of tests and the {@code int} number of them run by
+ * the shard, followed by an entry per test run ({@code int} position, {@code string} name, {@code byte} kind, the
+ * {@code string} failure name and message or the {@code int} limit of failures, as the kind requires, and
+ * the {@code long} wall, CPU and queued nanoseconds).
+ *
+ * @author Pepe Gallardo & Gemini
+ */
+final class ShardResults {
+
+    /** Value written at the start of every results file, identifying its format. */
+    static final int MAGIC = 0x7E57_5301;
+
+    private static final byte SUCCESS = 0;
+    private static final byte FAILURE = 1;
+    private static final byte SKIPPED = 2;
+
+    /** The results of the tests of a suite run by a shard, along with their positions among all its tests. */
+    private record SuitePart(String suiteName, int testCount, int[] positions, List<TimedResult> timedResults) {}
+
+    private ShardResults() {} // Prevent instantiation
+
+    /**
+     * Saves the results of a shard to its results file.
+     *
+     * @param shard The shard that was run.
+     * @param suites The whole suites of the run, in run order.
+     * @param allResults The results of the tests of each suite run by the shard, in the same order.
+     * @param config The configuration used to render the messages of failures.
+     * @throws UncheckedIOException If the file cannot be written.
+     */
+    static void save(Shard shard, List<TestSuite> suites, List<Results> allResults, Config config) {
+        try (var out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(shard.resultsFile())))) {
+            out.writeInt(MAGIC);
+            out.writeInt(shard.index());
+            out.writeInt(shard.count());
+            out.writeInt(suites.size());
+            for (int i = 0; i < suites.size(); i++) {
+                TestSuite suite = suites.get(i);
+                List<Test> tests = suite.getItems().stream()
+                                        .filter(item -> item instanceof Test)
+                                        .map(item -> (Test) item)
+                                        .toList();
+                List<TimedResult> timedResults = allResults.get(i).getTimedResults();
+                ForkedWorker.writeString(out, suite.getName());
+                out.writeInt(tests.size());
+                out.writeInt(timedResults.size());
+                int next = 0; // The results are those of the tests owned by the shard, in declaration order
+                for (int position = 0; position < tests.size(); position++) {
+                    if (shard.owns(suite.getName(), tests.get(position).getName())) {
+                        writeEntry(out, position, timedResults.get(next++), config);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot save the results of shard " + shard.index() + "/" + shard.count(), e);
+        }
+    }
+
+    private static void writeEntry(DataOutputStream out, int position, TimedResult timed, Config config) throws IOException {
+        out.writeInt(position);
+        ForkedWorker.writeString(out, timed.testName());
+        switch (timed.result()) {
+            case TestResult.Success success -> out.writeByte(SUCCESS);
+            case TestResult.Skipped skipped -> {
+                out.writeByte(SKIPPED);
+                out.writeInt(skipped.maxFailures());
+            }
+            case TestResult failure -> {
+                out.writeByte(FAILURE);
+                ForkedWorker.writeString(out, (failure instanceof TestResult.RemoteFailure remote) ? remote.kind() : failure.getClass().getSimpleName());
+                ForkedWorker.writeString(out, failure.message(config));
+            }
+        }
+        out.writeLong(timed.timing().wall().toNanos());
+        out.writeLong(timed.timing().cpu().toNanos());
+        out.writeLong(timed.timing().queued().toNanos());
+    }
+
+    /**
+     * Merges the results files of all the shards of a run.
+     *
+     * @param resultsFiles The results files, one per shard, in any order.
+     * @return The results of each suite, in run order, with the results of its tests in declaration order.
+     * @throws IllegalArgumentException If the files are not the results of exactly the shards of one run.
+     * @throws UncheckedIOException If a file cannot be read.
+     */
+    static List<Results> merge(List<Path> resultsFiles) {
+        Objects.requireNonNull(resultsFiles, "resultsFiles cannot be null");
+        if (resultsFiles.isEmpty()) {
+            throw new IllegalArgumentException("There are no results files to merge");
+        }
+        List<List<SuitePart>> shards = new ArrayList<>(Collections.nCopies(resultsFiles.size(), null)); // By shard index
+        for (Path file : resultsFiles) {
+            try (var in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+                if (in.readInt() != MAGIC) {
+                    throw new IllegalArgumentException(file + " is not a results file of a shard");
+                }
+                int index = in.readInt();
+                int shardCount = in.readInt();
+                if (shardCount != resultsFiles.size() || index < 1 || index > shardCount) {
+                    throw new IllegalArgumentException(file + " is the results file of shard " + index + "/" + shardCount
+                            + ", but " + resultsFiles.size() + " shards are being merged");
+                }
+                if (shards.get(index - 1) != null) {
+                    throw new IllegalArgumentException("The results of shard " + index + "/" + shardCount + " are given twice");
+                }
+                shards.set(index - 1, readSuites(in));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot read the results file " + file, e);
+            }
+        }
+
+        // Every shard has every suite, in the same order, so the suites are merged one position at a time
+        List<Results> allResults = new ArrayList<>();
+        List<SuitePart> first = shards.get(0);
+        if (shards.stream().anyMatch(shard -> shard.size() != first.size())) {
+            throw new IllegalArgumentException("The shards did not run the same suites");
+        }
+        for (int i = 0; i < first.size(); i++) {
+            String suiteName = first.get(i).suiteName();
+            TimedResult[] merged = new TimedResult[first.get(i).testCount()];
+            for (List<SuitePart> shard : shards) {
+                SuitePart part = shard.get(i);
+                if (!part.suiteName().equals(suiteName) || part.testCount() != merged.length) {
+                    throw new IllegalArgumentException("The shards did not run the same suites: found " + part.suiteName()
+                            + " where " + suiteName + " was expected");
+                }
+                for (int j = 0; j < part.positions().length; j++) {
+                    merged[part.positions()[j]] = part.timedResults().get(j);
+                }
+            }
+            if (Arrays.stream(merged).anyMatch(Objects::isNull)) {
+                throw new IllegalArgumentException("The shards did not run all the tests of suite " + suiteName);
+            }
+            allResults.add(Results.ofTimed(suiteName, Arrays.asList(merged)));
+        }
+        return allResults;
+    }
+
+    private static List<SuitePart> readSuites(DataInputStream in) throws IOException {
+        int suiteCount = in.readInt();
+        List<SuitePart> parts = new ArrayList<>(suiteCount);
+        for (int i = 0; i < suiteCount; i++) {
+            String suiteName = ForkedWorker.readString(in);
+            int testCount = in.readInt();
+            int[] positions = new int[in.readInt()];
+            List<TimedResult> timedResults = new ArrayList<>(positions.length);
+            for (int j = 0; j < positions.length; j++) {
+                positions[j] = in.readInt();
+                if (positions[j] < 0 || positions[j] >= testCount) {
+                    throw new IOException("Corrupt results file: test position " + positions[j] + " out of range");
+                }
+                timedResults.add(readEntry(in));
+            }
+            parts.add(new SuitePart(suiteName, testCount, positions, timedResults));
+        }
+        return parts;
+    }
+
+    private static TimedResult readEntry(DataInputStream in) throws IOException {
+        String testName = ForkedWorker.readString(in);
+        TestResult result = switch (in.readByte()) {
+            case SUCCESS -> TestResult.SUCCESS;
+            case SKIPPED -> new TestResult.Skipped(in.readInt());
+            case FAILURE -> new TestResult.RemoteFailure(ForkedWorker.readString(in), ForkedWorker.readString(in));
+            default -> throw new IOException("Corrupt results file: unknown kind of result");
+        };
+        Timing timing = new Timing(Duration.ofNanos(in.readLong()), Duration.ofNanos(in.readLong()), Duration.ofNanos(in.readLong()));
+        return new TimedResult(testName, result, timing);
+    }
+}
@@ -0,0 +1,122 @@
+package test.unit;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * The future of an asynchronous body started by {@link TestExecutor#submitStage(Supplier, java.time.Duration)}.
+ * <p>
+ * The body is called on the executor, and this future is completed when the stage it returns completes.
+ * The deadline is armed on the {@link Watchdog} when the body starts and covers both the call and the stage, so no
+ * thread is kept waiting for the stage. When the deadline expires, or this future is cancelled, the call is interrupted
+ * if still running and the stage is cancelled if it supports it.
+ *
+ * @param <R> The type of the value produced by the stage.
+ * @author Pepe Gallardo & Gemini
+ */
+final class StageTask<R> extends CompletableFuture<R> {
+
+    private final long timeoutNanos;
+    private final Timing.Recorder recorder = Timing.Recorder.current(); // Created on the submitting thread
+    private volatile CompletableFuture<?> call; // The call of the body on the executor
+    private volatile CompletionStage<? extends R> stage; // Null until the body returns
+    private volatile ScheduledFuture<?> deadline; // Null until the body starts
+
+    private StageTask(long timeoutNanos) {
+        this.timeoutNanos = timeoutNanos;
+    }
+
+    /**
+     * Calls {@code body} on {@code executor} and returns the future of the stage it returns.
+     *
+     * @param executor The executor on which the body is called.
+     * @param body Starts the asynchronous computation and returns its stage.
+     * @param timeoutNanos The maximum time, in nanoseconds, from the start of the call until the stage completes.
+     * @param <R> The type of the value produced by the stage.
+     * @return The future of the stage.
+     */
+    static <R> StageTask<R> submit(TestExecutor executor, Supplier<? extends CompletionStage<? extends R>> body, long timeoutNanos) {
+        var task = new StageTask<R>(timeoutNanos);
+        task.call = executor.submit(() -> task.start(body));
+        return task;
+    }
+
+    // Runs on the executor: arms the deadline, calls the body and waits for its stage through a callback
+    private Void start(Supplier<? extends CompletionStage<? extends R>> body) {
+        if (isDone()) {
+            return null; // Cancelled before the body started
+        }
+        deadline = Watchdog.arm(timeoutNanos, this::expire);
+        try {
+            CompletionStage<? extends R> started = Objects.requireNonNull(body.get(), "body returned a null stage");
+            stage = started;
+            started.whenComplete(this::settle);
+        } catch (Throwable t) {
+            settle(null, t);
+        }
+        return null;
+    }
+
+    // Completes this future with the outcome of the stage, on the thread completing it
+    private void settle(R value, Throwable failure) {
+        deadline.cancel(false);
+        if (recorder != null) {
+            recorder.bodyCompleted();
+        }
+        if (failure == null) {
+            complete(value);
+        } else {
+            completeExceptionally((failure instanceof CompletionException && failure.getCause() != null) ? failure.getCause() : failure);
+        }
+    }
+
+    // Watchdog action: times out the body and stops what can still be stopped of it
+    private void expire() {
+        if (completeExceptionally(new TimeoutException())) {
+            abandon();
+        }
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        boolean cancelled = super.cancel(mayInterruptIfRunning);
+        if (cancelled) {
+            ScheduledFuture<?> armed = deadline;
+            if (armed != null) {
+                armed.cancel(false);
+            }
+            abandon();
+        }
+        return cancelled;
+    }
+
+    // Stops the call if it is still running, and the stage if it can be stopped
+    private void abandon() {
+        CompletableFuture<?> running = call;
+        if (running != null) {
+            running.cancel(true);
+        }
+        CompletionStage<? extends R> started = stage;
+        if (started != null) {
+            cancel(started);
+        }
+    }
+
+    /**
+     * Cancels a stage, if it supports it. Otherwise, its outcome will just be ignored.
+     *
+     * @param stage The stage to cancel.
+     */
+    static void cancel(CompletionStage<?> stage) {
+        try {
+            stage.toCompletableFuture().cancel(true);
+        } catch (UnsupportedOperationException e) {
+            // This kind of stage cannot be cancelled
+        }
+    }
+}
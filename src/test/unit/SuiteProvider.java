@@ -0,0 +1,23 @@
+package test.unit;
+
+import java.util.List;
+
+/**
+ * Supplies the {@link TestSuite}s to be run by a JVM other than the one that defines them
+ * (see {@link Isolation} and {@link WorkerPool}). Since tests are made of code, they cannot be sent to another JVM:
+ * instead, that JVM instantiates the provider by class name and builds the very same suites.
+ * <p>
+ * Implementations must be public classes with a public no-argument constructor, and
+ * {@code suites()} must return the same suites, with the same items in the same order, every time it is called.
+ *
+ * @author Pepe Gallardo & Gemini
+ */
+public interface SuiteProvider {
+
+    /**
+     * Builds the test suites of this provider.
+     *
+     * @return The suites, in the order in which they should be run.
+     */
+    List<TestSuite> suites();
+}
@@ -1,7 +1,14 @@
 package test.unit;
 
+import java.time.Duration;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Abstract base class representing a single, executable test case.
@@ -9,25 +16,31 @@ import java.util.Optional;
  * <p>
  * It defines the common structure: a name, an optional timeout override, and the {@code run} method
  * which handles the execution lifecycle (logging start/end, timeout management) by calling
- * the abstract {@code executeTest} method implemented by subclasses.
+ * the abstract {@code executeTest} method implemented by subclasses. The {@code runAsync} method
+ * does the same without blocking, through {@code executeTestAsync}.
  *
  * @author Pepe Gallardo & Gemini
  */
 public non-sealed abstract class Test implements SuiteItem  {
 
     protected final String name;
-    protected final Optional<Integer> timeoutOverride;
+    protected final Optional<Duration> timeoutOverride;
+
+    /** A config derived from a base one for executing this test, kept to be reused by later runs. */
+    private record DerivedConfig(Config base, Config derived) {}
+
+    private volatile DerivedConfig lastExecutionConfig; // Last config built by executionConfig
 
     /**
      * Base constructor for a Test.
      * @param name The descriptive name identifying this specific test case. Must not be null.
-     * @param timeoutOverride An optional timeout duration (in seconds) specific to this test. Must not be null, can be empty. Negative values in Optional are invalid.
+     * @param timeoutOverride An optional timeout duration specific to this test. Must not be null, can be empty. Zero or negative durations in Optional are invalid.
      */
-    protected Test(String name, Optional<Integer> timeoutOverride) {
+    protected Test(String name, Optional<Duration> timeoutOverride) {
         this.name = Objects.requireNonNull(name, "Test name cannot be null");
         Objects.requireNonNull(timeoutOverride, "timeoutOverride Optional cannot be null");
         timeoutOverride.ifPresent(timeout -> {
-            if (timeout <= 0) {
+            if (timeout.isNegative() || timeout.isZero()) {
                 throw new IllegalArgumentException("Timeout override must be positive if present");
             }
         });
@@ -40,7 +53,7 @@ public non-sealed abstract class Test implements SuiteItem  {
     }
 
     /** Gets the optional timeout override for this test. */
-    public Optional<Integer> getTimeoutOverride() {
+    public Optional<Duration> getTimeoutOverride() {
         return timeoutOverride;
     }
 
@@ -58,29 +71,202 @@ public non-sealed abstract class Test implements SuiteItem  {
      * @return The {@link TestResult} indicating the outcome (Success or a specific Failure type).
      */
     public final TestResult run(Config config) {
+        return runTimed(config).result();
+    }
+
+    /**
+     * Executes this test case exactly as {@link #run(Config)} does, also measuring the {@link Timing}
+     * of the execution (queued, wall and CPU times of its body).
+     *
+     * @param config The {@link Config} object for this run. Must not be null.
+     * @return The {@link TimedResult} holding the name of this test, its outcome and its timing.
+     */
+    public final TimedResult runTimed(Config config) {
+        return runTimed(config, Optional.empty());
+    }
+
+    /**
+     * Executes this test case as {@link #runTimed(Config)} does, within the time budget of the suite it belongs to.
+     * Its timeout is shortened so that it cannot run past the deadline of the budget, and a
+     * {@link TestResult.BudgetExhaustedFailure} is reported if it is stopped by the deadline, or if the budget
+     * is already exhausted when it starts, in which case it is not executed at all.
+     *
+     * @param config The {@link Config} object for this run. Must not be null.
+     * @param deadline The {@link System#nanoTime()} at which the budget of the suite runs out, if any.
+     * @return The {@link TimedResult} holding the name of this test, its outcome and its timing.
+     */
+    final TimedResult runTimed(Config config, Optional<Long> deadline) {
+        return join(runTimedAsync(config, deadline));
+    }
+
+    /**
+     * Executes this test case without blocking the calling thread while its body runs.
+     * <p>
+     * The lifecycle is the same as that of {@link #run(Config)}, but the result is logged (and the returned stage
+     * completed) by whichever thread completes the body, such as a worker of the {@link TestExecutor} or its
+     * watchdog on timeout. Tests built by {@link TestFactory} hand their body over to the executor and return
+     * right away, so many of them can be in flight without a thread waiting for each one. Other tests run their
+     * {@link #executeTest(Config)} on the calling thread, and the returned stage is already complete.
+     *
+     * @param config The {@link Config} object for this run. Must not be null.
+     * @return A stage completed with the {@link TestResult} of this test.
+     */
+    public final CompletionStage<TestResult> runAsync(Config config) {
+        return runTimedAsync(config, Optional.empty()).thenApply(TimedResult::result);
+    }
+
+    /**
+     * Asynchronous counterpart of {@link #runTimed(Config, Optional)}, on which all the ways of running a test rely.
+     *
+     * Cancelling the returned future cancels the body of the test, if it is still running.
+     *
+     * @param config The {@link Config} object for this run. Must not be null.
+     * @param deadline The {@link System#nanoTime()} at which the budget of the suite runs out, if any.
+     * @return A future completed with the {@link TimedResult} of this test.
+     */
+    final CompletableFuture<TimedResult> runTimedAsync(Config config, Optional<Long> deadline) {
         Objects.requireNonNull(config, "Config cannot be null for running test");
         var logger = config.logger();
+        boolean logging = !logger.discardsOutput(); // Skip building output nobody will see
 
         // 1. Log Start: Use bold style for the test name prefix
-        logger.logStart(logger.bold(" " + this.name), config); // Pass config
+        if (logging) {
+            logger.logStart(logger.bold(" " + this.name), config); // Pass config
+        }
+
+        // 2. Resolve Timeout: Use override if present, otherwise use config default,
+        //    but never past the deadline of the suite budget
+        Duration resolvedTimeout = this.timeoutOverride.orElse(config.timeout());
+        Optional<Duration> remainingBudget = deadline.map(end -> Duration.ofNanos(end - System.nanoTime()));
 
-        // 2. Resolve Timeout: Use override if present, otherwise use config default
-        final int resolvedTimeout = this.timeoutOverride.orElse(config.timeout());
+        // 3. Execute Core Logic: Start the body, passing a config with the *resolved* timeout.
+        //    The recorder only needs to be bound while the body is handed over to the executor.
+        Timing.Recorder recorder = Timing.Recorder.start();
+        CompletableFuture<TestResult> outcome;
+        boolean cappedByBudget = false;
+        try {
+            if (remainingBudget.isPresent() && (remainingBudget.get().isNegative() || remainingBudget.get().isZero())) {
+                outcome = CompletableFuture.completedFuture(new TestResult.BudgetExhaustedFailure(config.suiteBudget().orElseThrow()));
+            } else {
+                cappedByBudget = remainingBudget.isPresent() && remainingBudget.get().compareTo(resolvedTimeout) < 0;
+                if (cappedByBudget) {
+                    resolvedTimeout = remainingBudget.get();
+                }
+                outcome = executeTestAsync(executionConfig(config, resolvedTimeout));
+            }
+        } finally {
+            recorder.unbind();
+        }
 
-        // 3. Execute Core Logic: Call the abstract method, passing a config
-        //    with the *resolved* timeout.
-        Config executionConfig = new Config(config.logger(), config.language(), resolvedTimeout, false);
-        TestResult result = executeTest(executionConfig);
+        boolean stoppedByBudget = cappedByBudget;
+        CompletableFuture<TimedResult> timed = outcome.thenApply(testResult -> {
+            TestResult result = testResult;
+            if (stoppedByBudget && result instanceof TestResult.TimeoutFailure) {
+                // The test was stopped by the suite budget rather than by its own timeout
+                result = new TestResult.BudgetExhaustedFailure(config.suiteBudget().orElseThrow());
+            }
+            Timing timing = recorder.finish();
 
-        // 4. Log Result: Use the logger to print the formatted result message
-        logger.logResult(result, config); // Pass original config for context
-        logger.println(); // Add a blank line after each test result for readability
+            if (logging) {
+                // 4. Log Result: Use the logger to print the formatted result message
+                logger.logResult(result, config); // Pass original config for context
+                logger.println(); // Add a blank line after each test result for readability
 
-        // 5. Flush Logger: Ensure output is visible immediately
-        logger.flush();
+                // 5. Flush Logger: Ensure output is visible immediately
+                logger.flush();
+            }
 
-        // Return the outcome
-        return result;
+            // Return the outcome
+            return new TimedResult(this.name, result, timing);
+        });
+        timed.exceptionally(failure -> {
+            if (timed.isCancelled()) {
+                outcome.cancel(true); // Stops the body, which nobody is waiting for anymore
+            }
+            return null;
+        });
+        return timed;
+    }
+
+    /**
+     * Reports this test as skipped, without running it, logging it as if it had been run.
+     *
+     * @param config The {@link Config} object for this run. Must not be null.
+     * @param skipped The result to report.
+     * @return The {@link TimedResult} holding the name of this test and the skipped result, with no timing.
+     */
+    final TimedResult skip(Config config, TestResult.Skipped skipped) {
+        var logger = config.logger();
+        if (!logger.discardsOutput()) {
+            logger.logStart(logger.bold(" " + this.name), config);
+            logger.logResult(skipped, config);
+            logger.println();
+            logger.flush();
+        }
+        return new TimedResult(this.name, skipped, Timing.NONE);
+    }
+
+    // Completes target as source completes, and cancels source if target gets cancelled first
+    static <R> void relay(CompletableFuture<R> source, CompletableFuture<R> target) {
+        source.whenComplete((value, failure) -> {
+            if (failure == null) {
+                target.complete(value);
+            } else {
+                target.completeExceptionally(failure);
+            }
+        });
+        target.exceptionally(failure -> {
+            if (target.isCancelled()) {
+                source.cancel(true);
+            }
+            return null;
+        });
+    }
+
+    // Waits for a future, rethrowing unchecked exceptions as if the work had been done on the calling thread
+    static <R> R join(CompletableFuture<R> future) {
+        TestBatch.runDeferred(); // The future may depend on a body deferred on this thread
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Gets the config passed to {@link #executeTest(Config)}: the given one, with the resolved timeout.
+     * The given config is used as is when it already has that timeout, and the last derived config is
+     * reused while the same config is given, so running tests does not create a config per test.
+     */
+    private Config executionConfig(Config config, Duration timeout) {
+        if (!config.csvOutput() && config.timeout().equals(timeout)) {
+            return config;
+        }
+        DerivedConfig last = lastExecutionConfig;
+        if (last != null && last.base() == config && last.derived().timeout().equals(timeout)) {
+            return last.derived();
+        }
+        Config derived = config.with(builder -> builder.timeout(timeout).csvOutput(false));
+        lastExecutionConfig = new DerivedConfig(config, derived);
+        return derived;
+    }
+
+    /**
+     * Describes what this test expects, for failure messages that do not depend on the kind of test,
+     * such as a {@link TestResult.TimeoutFailure} reported when the test is run in an isolated JVM (see {@link Isolation}).
+     * Subclasses should override it with the description they use in their own timeout failures.
+     *
+     * @param config The configuration context providing localization and logger.
+     * @return A formatted string describing the expectation of this test.
+     */
+    protected String expectationDescription(Config config) {
+        return config.msg(Message.EXPECTED_COMPLETION);
     }
 
     /**
@@ -96,4 +282,73 @@ public non-sealed abstract class Test implements SuiteItem  {
      * @return A {@link TestResult} (e.g., {@link TestResult.Success}, {@link TestResult.EqualityFailure}) based on the evaluation.
      */
     protected abstract TestResult executeTest(Config config);
+
+    /**
+     * Starts the core logic of this test, returning a future of its outcome instead of waiting for it.
+     * <p>
+     * By default, it calls {@link #executeTest(Config)} on the calling thread and returns a completed future.
+     * Tests whose body runs on the {@link TestExecutor} override it to return as soon as the body is submitted.
+     * Cancelling the returned future should stop the body.
+     *
+     * @param config The configuration context for this test run, including the actual timeout to use.
+     * @return A future completed with the {@link TestResult} of this test.
+     */
+    protected CompletableFuture<TestResult> executeTestAsync(Config config) {
+        return CompletableFuture.completedFuture(executeTest(config));
+    }
+
+    /**
+     * Turns the future of a body submitted to the {@link TestExecutor} into the future of the outcome of a test.
+     * A timeout or cancellation of the body becomes a {@link TestResult.TimeoutFailure}, any other failure
+     * becomes a {@link TestResult.UnexpectedExceptionFailure}, and cancelling the returned future cancels the body.
+     *
+     * @param body The future returned by {@link TestExecutor#submit(java.util.function.Supplier, Duration)}.
+     * @param timeout The timeout the body was submitted with, reported on timeout.
+     * @param timeoutDescription Describes the expectation of the test in a timeout failure.
+     * @param failureDescription Describes the expectation of the test in an unexpected failure.
+     * @return The future of the outcome of the test.
+     */
+    protected static CompletableFuture<TestResult> outcomeOf(CompletableFuture<TestResult> body,
+                                                             Duration timeout,
+                                                             TestResult.Description timeoutDescription,
+                                                             TestResult.Description failureDescription) {
+        CompletableFuture<TestResult> outcome = body.exceptionally(failure -> {
+            Throwable cause = (failure instanceof CompletionException && failure.getCause() != null) ? failure.getCause() : failure;
+            if (cause instanceof TimeoutException || cause instanceof CancellationException) {
+                return new TestResult.TimeoutFailure(timeout, timeoutDescription);
+            }
+            return new TestResult.UnexpectedExceptionFailure(cause, failureDescription);
+        });
+        outcome.exceptionally(failure -> {
+            if (outcome.isCancelled()) {
+                body.cancel(true); // Propagate the cancellation to the body
+            }
+            return null;
+        });
+        return outcome;
+    }
+
+    /**
+     * Waits for the outcome of a test started by {@link #executeTestAsync(Config)}, for implementing
+     * {@link #executeTest(Config)} on top of it. If the waiting thread is interrupted, the test is cancelled.
+     *
+     * @param outcome The future of the outcome of the test.
+     * @param description Describes the expectation of the test, should waiting fail.
+     * @return The outcome of the test.
+     */
+    protected static TestResult await(CompletableFuture<TestResult> outcome, TestResult.Description description) {
+        TestBatch.runDeferred(); // Within a batch, the body of the test may not have run yet
+        try {
+            return outcome.get();
+        } catch (ExecutionException e) {
+            // Failures of the body are already turned into results, so this should not happen
+            Throwable cause = (e.getCause() != null) ? e.getCause() : e;
+            return new TestResult.UnexpectedExceptionFailure(cause, description);
+        } catch (InterruptedException e) {
+            // The waiting thread was interrupted
+            Thread.currentThread().interrupt();
+            outcome.cancel(true);
+            return new TestResult.UnexpectedExceptionFailure(e, description);
+        }
+    }
 }
@@ -0,0 +1,384 @@
+package test.unit;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * A group of consecutive tests of a suite, run back to back by a single task of a {@link TestExecutor}
+ * (see {@link Config#batching()}).
+ * <p>
+ * Submitting every test to the executor costs a handoff between threads, which for trivial tests takes far longer
+ * than the test itself. A batch submits one task instead, which starts its tests one after another. The tests are
+ * given a config whose executor is the batch itself: their bodies are run inline by the task, right after the test
+ * has been started, rather than handed over to another thread.
+ * <p>
+ * Each body keeps its own timeout. Rather than arming a deadline per body, the batch keeps a single check on the
+ * {@link Watchdog}, which is only re-armed when it finds that the body then running still has time left. When a body
+ * runs out of time, its test fails with a timeout, the task is cancelled (interrupting its thread, and letting a pooled
+ * executor replace the stuck worker) and the tests not yet started are taken over by a new task.
+ *
+ * @author Pepe Gallardo & Gemini
+ */
+final class TestBatch implements TestExecutor {
+
+    /** Size of the first batch of a suite run, before any test has been measured. */
+    static final int INITIAL_SIZE = 8;
+    private static final int MAX_SIZE = 4096;
+    private static final long TARGET_NANOS = 1_000_000; // Work done by a batch, enough to amortize its handoff
+
+    // The worker running a batch on the current thread, if any
+    private static final ThreadLocal<Worker> WORKER = new ThreadLocal<>();
+
+    private final TestExecutor executor; // Runs the tasks of the batch
+    private final Config config; // The config of the run, with the batch as executor
+    private final List<Test> tests;
+    private final List<Optional<Logger.BufferedLogger>> outputs;
+    private final List<CompletableFuture<TimedResult>> outcomes;
+    private final Optional<Long> deadline;
+    private final AtomicLong cursor = new AtomicLong(); // Generation of the task in the high half, next test in the low half
+    private final AtomicInteger pending;
+    private final CompletableFuture<Void> done = new CompletableFuture<>();
+    private volatile Worker active;
+    private volatile long nanosPerTest = -1;
+
+    private ScheduledFuture<?> timer; // Guarded by this
+    private volatile boolean timerArmed = false;
+    private volatile long timerDeadline;
+
+    /**
+     * Creates a batch of tests.
+     *
+     * @param config The config of the suite run. The tests are run with its executor replaced by the batch.
+     * @param tests The tests of the batch, in declaration order.
+     * @param outputs The buffer each test writes to, if any, in the same order.
+     * @param deadline The {@link System#nanoTime()} at which the suite budget runs out, if any.
+     */
+    TestBatch(Config config, List<Test> tests, List<Optional<Logger.BufferedLogger>> outputs, Optional<Long> deadline) {
+        this.executor = config.executor();
+        this.config = Config.withExecutor(this, config);
+        this.tests = List.copyOf(tests);
+        this.outputs = List.copyOf(outputs);
+        this.deadline = deadline;
+        this.pending = new AtomicInteger(tests.size());
+        this.outcomes = new ArrayList<>(tests.size());
+        for (int i = 0; i < tests.size(); i++) {
+            outcomes.add(new CompletableFuture<>());
+        }
+    }
+
+    /**
+     * Computes the size of the next batch from the measured duration of the tests of the last one, aiming at about a
+     * millisecond of work per batch, without growing more than fourfold at once.
+     *
+     * @param size The size of the last batch.
+     * @param nanosPerTest The average time, in nanoseconds, spent starting each test of the last batch, or -1 if unknown.
+     * @return The size of the next batch.
+     */
+    static int nextSize(int size, long nanosPerTest) {
+        long target = (nanosPerTest < 0) ? size : TARGET_NANOS / Math.max(1, nanosPerTest);
+        return (int) Math.max(1, Math.min(Math.min(target, 4L * size), MAX_SIZE));
+    }
+
+    /** Submits the task of this batch to the executor. */
+    void start() {
+        startWorker(0);
+    }
+
+    /** Gets the future outcome of the test at the given position in this batch. */
+    CompletableFuture<TimedResult> outcome(int position) {
+        return outcomes.get(position);
+    }
+
+    /** Gets a future completed once every test in this batch has completed. */
+    CompletableFuture<Void> done() {
+        return done;
+    }
+
+    /** Gets the average time, in nanoseconds, spent starting each test of this batch, or -1 if not measured yet. */
+    long nanosPerTest() {
+        return nanosPerTest;
+    }
+
+    /**
+     * Runs the bodies deferred by the batch on the current thread, if any. Called before blocking on a future
+     * (see {@link Test#join(CompletableFuture)}), since a body deferred on this thread could otherwise never run.
+     */
+    static void runDeferred() {
+        Worker worker = WORKER.get();
+        if (worker != null) {
+            worker.runDeferred();
+        }
+    }
+
+    private void startWorker(int generation) {
+        Worker worker = new Worker(generation);
+        active = worker;
+        worker.task = executor.submit(worker::run);
+    }
+
+    // Claims the next test not started yet, or returns -1 if there is none or the given generation was abandoned
+    private int claim(int generation) {
+        while (true) {
+            long current = cursor.get();
+            int next = (int) current;
+            if ((int) (current >>> 32) != generation || next >= tests.size()) {
+                return -1;
+            }
+            if (cursor.compareAndSet(current, current + 1)) {
+                return next;
+            }
+        }
+    }
+
+    private void startTest(int position) {
+        Config testConfig = outputs.get(position).<Config>map(output -> Config.withLogger(output, config)).orElse(config);
+        CompletableFuture<TimedResult> result;
+        try {
+            result = tests.get(position).runTimedAsync(testConfig, deadline);
+        } catch (Throwable t) {
+            result = CompletableFuture.failedFuture(t);
+        }
+        Test.relay(result, outcomes.get(position)); // Cancelling the outcome cancels the test
+        result.whenComplete((timedResult, failure) -> completed());
+    }
+
+    private void completed() {
+        if (pending.decrementAndGet() == 0) {
+            done.complete(null);
+        }
+    }
+
+    /**
+     * Stops this batch: the outcomes of the tests not started yet are cancelled right away, and so are those of the
+     * tests still running, whose bodies are interrupted.
+     */
+    void cancel() {
+        long current;
+        do {
+            current = cursor.get();
+        } while (!cursor.compareAndSet(current, ((current >>> 32) + 1) << 32 | tests.size())); // No more claims
+        for (int position = (int) current; position < tests.size(); position++) {
+            outcomes.get(position).cancel(true);
+            completed();
+        }
+        outcomes.forEach(outcome -> outcome.cancel(true));
+        Worker worker = active;
+        if (worker != null && worker.task != null) {
+            worker.task.cancel(true); // The body it may be running is no longer wanted
+        }
+    }
+
+    // --- Deadlines ---
+
+    // Makes sure a check is scheduled no later than the given deadline
+    private void watch(long deadlineNanos) {
+        if (timerArmed && deadlineNanos - timerDeadline >= 0) {
+            return; // An earlier check will take care of it
+        }
+        synchronized (this) {
+            if (timerArmed && deadlineNanos - timerDeadline >= 0) {
+                return;
+            }
+            if (timer != null) {
+                timer.cancel(false);
+            }
+            timerDeadline = deadlineNanos;
+            timerArmed = true;
+            timer = Watchdog.arm(Math.max(0, deadlineNanos - System.nanoTime()), this::check);
+        }
+    }
+
+    private synchronized void unwatch() {
+        if (timer != null) {
+            timer.cancel(false);
+            timer = null;
+        }
+        timerArmed = false;
+    }
+
+    // Runs on the watchdog thread: times out the body running now if it is late, or checks again on its deadline
+    private void check() {
+        synchronized (this) {
+            timer = null;
+            timerArmed = false; // Written before reading the current body, which the worker writes before watching
+        }
+        Worker worker = active;
+        Guarded<?> body = (worker == null) ? null : worker.current;
+        if (body == null || body.timeoutNanos == Watchdog.NO_DEADLINE || body.isDone()) {
+            return; // The next guarded body will schedule its own check
+        }
+        if (body.deadlineNanos - System.nanoTime() > 0) {
+            watch(body.deadlineNanos);
+        } else if (body.completeExceptionally(new TimeoutException())) {
+            abandon(worker);
+        }
+    }
+
+    // Leaves a worker stuck on a timed out body behind, and hands the tests it has not started over to a new one
+    private void abandon(Worker stuck) {
+        long current;
+        do {
+            current = cursor.get();
+        } while (!cursor.compareAndSet(current, current + (1L << 32)));
+        CompletableFuture<?> task = stuck.task;
+        if (task != null) {
+            task.cancel(true);
+        } else if (stuck.thread != null) {
+            stuck.thread.interrupt();
+        }
+        if ((int) current < tests.size()) {
+            startWorker((int) (current >>> 32) + 1);
+        }
+    }
+
+    // --- TestExecutor, for the tests of the batch ---
+
+    @Override
+    public <R> CompletableFuture<R> submit(Supplier<R> body) {
+        return defer(Objects.requireNonNull(body, "body cannot be null"), Watchdog.NO_DEADLINE);
+    }
+
+    @Override
+    public <R> CompletableFuture<R> submit(Supplier<R> body, Duration timeout) {
+        Objects.requireNonNull(body, "body cannot be null");
+        Objects.requireNonNull(timeout, "timeout cannot be null");
+        if (timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException("timeout must be positive");
+        }
+        return defer(body, timeout.toNanos());
+    }
+
+    /**
+     * Tasks of a batch are stopped when they time out, and the executor running them is shared with other runs,
+     * so there is nothing to shut down here.
+     */
+    @Override
+    public void shutdown() {}
+
+    // Queues the body to run once the test submitting it has been started, on the thread running the batch
+    private <R> CompletableFuture<R> defer(Supplier<R> body, long timeoutNanos) {
+        Worker worker = WORKER.get();
+        if (worker == null) { // Submitted from elsewhere, e.g. by a stage completing on another thread
+            return (timeoutNanos == Watchdog.NO_DEADLINE) ? executor.submit(body) : executor.submit(body, Duration.ofNanos(timeoutNanos));
+        }
+        var guarded = new Guarded<>(body, timeoutNanos);
+        worker.deferred.add(guarded);
+        return guarded;
+    }
+
+    /**
+     * The task of a batch, running its tests until none is left or it gets abandoned.
+     * Each abandonment starts a new worker, with the next generation.
+     */
+    private final class Worker {
+        private final int generation;
+        private final ArrayDeque<Guarded<?>> deferred = new ArrayDeque<>(); // Only touched by the thread of the worker
+        private volatile Guarded<?> current; // The body running now, read by the watchdog
+        private volatile CompletableFuture<?> task;
+        private volatile Thread thread;
+
+        Worker(int generation) {
+            this.generation = generation;
+        }
+
+        Void run() {
+            thread = Thread.currentThread();
+            WORKER.set(this);
+            try {
+                long start = System.nanoTime();
+                int started = 0;
+                int position;
+                while ((position = claim(generation)) >= 0) {
+                    startTest(position);
+                    runDeferred();
+                    started++;
+                }
+                if (started > 0) {
+                    nanosPerTest = (System.nanoTime() - start) / started;
+                }
+                if (active == this) {
+                    unwatch(); // Nothing left to watch: later bodies of stages have their own deadlines
+                }
+            } finally {
+                WORKER.set(null); // Keeps the entry of the thread, as Timing.Recorder does
+            }
+            return null;
+        }
+
+        void runDeferred() {
+            Guarded<?> body;
+            while ((body = deferred.poll()) != null) {
+                Guarded<?> outer = current;
+                if (body.timeoutNanos != Watchdog.NO_DEADLINE) {
+                    body.deadlineNanos = System.nanoTime() + body.timeoutNanos; // The timeout counts from the start of the body
+                }
+                current = body;
+                try {
+                    if (body.timeoutNanos != Watchdog.NO_DEADLINE) {
+                        watch(body.deadlineNanos);
+                    }
+                    body.run();
+                } finally {
+                    current = outer;
+                }
+            }
+        }
+    }
+
+    /**
+     * A body deferred by the batch, which is also the future reporting its outcome.
+     * Waiting for it on the thread that deferred it runs it right away.
+     */
+    private static final class Guarded<R> extends CompletableFuture<R> {
+        private final Supplier<R> body;
+        private final long timeoutNanos; // Watchdog.NO_DEADLINE if submitted without a timeout
+        private final Timing.Recorder recorder = Timing.Recorder.current(); // Created on the submitting thread
+        private volatile long deadlineNanos; // Set when the body starts, if it has a timeout
+
+        Guarded(Supplier<R> body, long timeoutNanos) {
+            this.body = body;
+            this.timeoutNanos = timeoutNanos;
+        }
+
+        void run() {
+            if (isDone()) {
+                return; // Cancelled before it started
+            }
+            long cpuAtStart = Timing.Recorder.startBody(recorder);
+            try {
+                R value = body.get();
+                Timing.Recorder.finishBody(recorder, cpuAtStart);
+                complete(value);
+            } catch (Throwable t) {
+                Timing.Recorder.finishBody(recorder, cpuAtStart);
+                completeExceptionally(t);
+            }
+        }
+
+        @Override
+        public R get() throws InterruptedException, ExecutionException {
+            TestBatch.runDeferred();
+            return super.get();
+        }
+
+        @Override
+        public R get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+            TestBatch.runDeferred();
+            return super.get(timeout, unit);
+        }
+
+        @Override
+        public R join() {
+            TestBatch.runDeferred();
+            return super.join();
+        }
+    }
+}
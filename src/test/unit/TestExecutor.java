@@ -0,0 +1,449 @@
+package test.unit;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Defines how the bodies of timeout-guarded tests (e.g., {@link EqualBy}, {@link Property}, {@link ExceptionBy})
+ * are executed. An instance is carried by {@link Config} and shared by all the tests run with it.
+ * <p>
+ * The futures returned by {@link #submit(Supplier)}, {@link #submit(Supplier, Duration)} and
+ * {@link #submitStage(Supplier, Duration)} follow these rules,
+ * which tests rely on:
+ * <ul>
+ * <li>Time spent waiting for a free worker never counts against a test's timeout: the timed {@code get} of the
+ *     future, and the timeout given to {@link #submit(Supplier, Duration)}, only start counting once the body has
+ *     actually started running.</li>
+ * <li>Cancelling the future with {@code cancel(true)} interrupts the body, and so does the expiry of the timeout
+ *     given to {@link #submit(Supplier, Duration)}. If the body keeps running anyway (e.g., a tight loop ignoring
+ *     interruption), the executor must not let it starve later tests.</li>
+ * </ul>
+ * Implementations also report when each body starts and finishes to the {@link Timing.Recorder} bound to the
+ * submitting thread, if any, so that the queued, wall and CPU times of tests can be measured.
+ *
+ * @author Pepe Gallardo & Gemini
+ */
+public interface TestExecutor {
+
+    /**
+     * Starts evaluating {@code body} asynchronously.
+     *
+     * @param body The code to execute. Must not be null.
+     * @param <R> The type of the value produced by {@code body}.
+     * @return A future completed with the value produced by {@code body}, or exceptionally with whatever it threw.
+     */
+    <R> CompletableFuture<R> submit(Supplier<R> body);
+
+    /**
+     * Starts evaluating {@code body} asynchronously, under the watch of a shared {@link Watchdog}.
+     * If {@code body} is still running once {@code timeout} has elapsed since it started, the future is completed
+     * exceptionally with a {@link TimeoutException} and the body is interrupted. Callers can thus react to the
+     * outcome through callbacks, without any thread blocking until the timeout expires.
+     *
+     * @param body The code to execute. Must not be null.
+     * @param timeout The maximum time the body may run (must be positive). Must not be null.
+     * @param <R> The type of the value produced by {@code body}.
+     * @return A future completed with the value produced by {@code body}, exceptionally with whatever it threw,
+     *         or exceptionally with a {@link TimeoutException} if it did not finish in time.
+     */
+    <R> CompletableFuture<R> submit(Supplier<R> body, Duration timeout);
+
+    /**
+     * Starts an asynchronous body, which returns a {@link CompletionStage} rather than a value.
+     * The body itself is called through {@link #submit(Supplier)}, and no thread waits for its stage afterwards.
+     * If the stage has not completed once {@code timeout} has elapsed since the body started, the future is completed
+     * exceptionally with a {@link TimeoutException}, the body is interrupted if it is still running, and the stage is
+     * cancelled if it supports it.
+     *
+     * @param body The code starting the asynchronous computation. Must not be null.
+     * @param timeout The maximum time from the start of the body until its stage completes (must be positive). Must not be null.
+     * @param <R> The type of the value produced by the stage.
+     * @return A future completed with the value of the stage, exceptionally with the cause of its failure
+     *         (or whatever the body threw), or exceptionally with a {@link TimeoutException} if it did not complete in time.
+     */
+    default <R> CompletableFuture<R> submitStage(Supplier<? extends CompletionStage<? extends R>> body, Duration timeout) {
+        return StageTask.submit(this, Objects.requireNonNull(body, "body cannot be null"), timeoutNanos(timeout));
+    }
+
+    /**
+     * Stops accepting new bodies and interrupts the ones still running.
+     */
+    void shutdown();
+
+    /**
+     * Creates an executor with a dedicated pool of daemon worker threads.
+     *
+     * @param threads The number of workers available to run bodies concurrently (must be positive).
+     * @param threadNamePrefix The prefix used to name the worker threads (e.g., "test-worker").
+     * @return A new {@link Pooled} executor.
+     */
+    static TestExecutor pooled(int threads, String threadNamePrefix) {
+        return new Pooled(threads, threadNamePrefix);
+    }
+
+    /** Overload for pooled using "test-worker" as the thread name prefix. */
+    static TestExecutor pooled(int threads) {
+        return pooled(threads, "test-worker");
+    }
+
+    /**
+     * Creates an executor that evaluates each body on its own virtual thread.
+     *
+     * @param threadNamePrefix The prefix used to name the virtual threads (e.g., "test-vthread").
+     * @return A new {@link VirtualThreads} executor.
+     */
+    static TestExecutor virtualThreads(String threadNamePrefix) {
+        return new VirtualThreads(threadNamePrefix);
+    }
+
+    /** Overload for virtualThreads using "test-vthread" as the thread name prefix. */
+    static TestExecutor virtualThreads() {
+        return virtualThreads("test-vthread");
+    }
+
+    /** The executor used by default: a pool with one worker per available processor. */
+    TestExecutor DEFAULT = pooled(Runtime.getRuntime().availableProcessors());
+
+    /**
+     * Converts the timeout of a guarded body to nanoseconds.
+     *
+     * @param timeout The timeout (must be positive). Must not be null.
+     * @return The timeout in nanoseconds.
+     */
+    private static long timeoutNanos(Duration timeout) {
+        Objects.requireNonNull(timeout, "timeout cannot be null");
+        if (timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException("timeout must be positive");
+        }
+        return timeout.toNanos();
+    }
+
+    // --- Concrete TestExecutor Implementations ---
+
+    /**
+     * A {@link TestExecutor} implementation that runs bodies on a fixed number of named daemon threads.
+     * <p>
+     * When the future of a running body is cancelled (typically because the test timed out), the worker running it
+     * is interrupted and abandoned: an extra worker is added to the pool right away, so the configured number of
+     * threads stays available for later tests. The abandoned worker leaves the pool as soon as its body
+     * eventually finishes.
+     */
+    class Pooled implements TestExecutor {
+        private final ThreadPoolExecutor pool;
+        private final int threads;
+        private final Object resizeLock = new Object();
+        private int abandonedWorkers = 0; // Guarded by resizeLock
+
+        /**
+         * Creates a pool of worker threads.
+         *
+         * @param threads The number of workers (must be positive).
+         * @param threadNamePrefix The prefix used to name the worker threads. Must not be null.
+         */
+        public Pooled(int threads, String threadNamePrefix) {
+            if (threads <= 0) {
+                throw new IllegalArgumentException("threads must be positive");
+            }
+            Objects.requireNonNull(threadNamePrefix, "threadNamePrefix cannot be null");
+            this.threads = threads;
+            AtomicInteger threadCounter = new AtomicInteger();
+            this.pool = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+                Thread thread = new Thread(runnable, threadNamePrefix + "-" + threadCounter.incrementAndGet());
+                thread.setDaemon(true); // Never keep the JVM alive because of a runaway test
+                return thread;
+            });
+        }
+
+        @Override
+        public <R> CompletableFuture<R> submit(Supplier<R> body) {
+            var task = new Task<>(Objects.requireNonNull(body, "body cannot be null"), Watchdog.NO_DEADLINE);
+            pool.execute(task);
+            return task;
+        }
+
+        @Override
+        public <R> CompletableFuture<R> submit(Supplier<R> body, Duration timeout) {
+            var task = new Task<>(Objects.requireNonNull(body, "body cannot be null"), timeoutNanos(timeout));
+            pool.execute(task);
+            return task;
+        }
+
+        @Override
+        public void shutdown() {
+            pool.shutdownNow();
+        }
+
+        /** Returns the current number of workers, including those stuck on abandoned bodies. */
+        public int getWorkerCount() {
+            return pool.getPoolSize();
+        }
+
+        // Provides a fresh worker to replace one stuck on an abandoned body
+        private void addWorker() {
+            resize(+1);
+        }
+
+        // Retires the extra worker once an abandoned body has finished
+        private void removeWorker() {
+            resize(-1);
+        }
+
+        // The removal of a worker may be processed before its addition, so the pool never shrinks below its base size
+        private void resize(int delta) {
+            synchronized (resizeLock) {
+                abandonedWorkers += delta;
+                int size = threads + Math.max(0, abandonedWorkers);
+                if (size > pool.getMaximumPoolSize()) {
+                    pool.setMaximumPoolSize(size); // Maximum must never be below core size
+                    pool.setCorePoolSize(size);
+                } else if (size < pool.getCorePoolSize()) {
+                    pool.setCorePoolSize(size);
+                    pool.setMaximumPoolSize(size);
+                }
+            }
+        }
+
+        /**
+         * A body queued on the pool, which is also the future reporting its outcome.
+         * Its state lives in plain fields, and its own monitor guards the runner and signals the start of the body,
+         * so that submitting a body allocates little more than the task itself.
+         */
+        private final class Task<R> extends CompletableFuture<R> implements Runnable {
+            private static final int QUEUED = 0, RUNNING = 1, FINISHED = 2, ABANDONED = 3;
+            private static final VarHandle STATE;
+
+            static {
+                try {
+                    STATE = MethodHandles.lookup().findVarHandle(Task.class, "state", int.class);
+                } catch (ReflectiveOperationException e) {
+                    throw new ExceptionInInitializerError(e);
+                }
+            }
+
+            private final Supplier<R> body;
+            private final long timeoutNanos; // Watchdog.NO_DEADLINE if submitted without a timeout
+            private final Timing.Recorder recorder = Timing.Recorder.current(); // Created on the submitting thread
+            private volatile int state = QUEUED; // Updated through STATE
+            private boolean started = false; // Guarded by this. Also true if cancelled before starting
+            private Thread runner; // Guarded by this
+
+            Task(Supplier<R> body, long timeoutNanos) {
+                this.body = body;
+                this.timeoutNanos = timeoutNanos;
+            }
+
+            @Override
+            public void run() {
+                if (!STATE.compareAndSet(this, QUEUED, RUNNING)) {
+                    return; // Cancelled while still queued
+                }
+                boolean abandoned;
+                synchronized (this) {
+                    runner = Thread.currentThread();
+                    started = true;
+                    notifyAll();
+                    // Cancelled right after the state changed, while there was no runner to interrupt yet
+                    abandoned = (state == ABANDONED);
+                    if (abandoned) {
+                        runner = null;
+                    }
+                }
+                if (abandoned) {
+                    removeWorker(); // A replacement worker already took over, and the future is already completed
+                    return;
+                }
+                ScheduledFuture<?> deadline = (timeoutNanos == Watchdog.NO_DEADLINE) ? null : Watchdog.arm(timeoutNanos, this::expire);
+                long cpuAtStart = Timing.Recorder.startBody(recorder);
+                try {
+                    R value = body.get();
+                    Timing.Recorder.finishBody(recorder, cpuAtStart);
+                    complete(value);
+                } catch (Throwable t) {
+                    Timing.Recorder.finishBody(recorder, cpuAtStart);
+                    completeExceptionally(t);
+                } finally {
+                    if (deadline != null) {
+                        deadline.cancel(false); // Expiring now would find the future completed and do nothing
+                    }
+                    synchronized (this) {
+                        runner = null;
+                        Thread.interrupted(); // Do not leak a late interrupt into the next body run by this worker
+                    }
+                    if (!STATE.compareAndSet(this, RUNNING, FINISHED)) {
+                        removeWorker(); // This body was abandoned and a replacement worker already took over
+                    }
+                }
+            }
+
+            // Watchdog action: times out the body and leaves its worker behind
+            private void expire() {
+                if (completeExceptionally(new TimeoutException())) {
+                    abandon(true);
+                }
+            }
+
+            @Override
+            public boolean cancel(boolean mayInterruptIfRunning) {
+                boolean cancelled = super.cancel(mayInterruptIfRunning);
+                if (STATE.compareAndSet(this, QUEUED, FINISHED)) {
+                    pool.remove(this);
+                    synchronized (this) {
+                        started = true; // Release waiters: the future is already completed
+                        notifyAll();
+                    }
+                } else if (cancelled) {
+                    abandon(mayInterruptIfRunning);
+                }
+                return cancelled;
+            }
+
+            // Leaves a running body behind, whose outcome no longer matters, and replaces its worker
+            private void abandon(boolean interrupt) {
+                if (STATE.compareAndSet(this, RUNNING, ABANDONED)) {
+                    if (interrupt) {
+                        synchronized (this) {
+                            if (runner != null) {
+                                runner.interrupt();
+                            }
+                        }
+                    }
+                    addWorker();
+                }
+            }
+
+            /**
+             * Waits for the body to complete, counting the timeout from the moment it started running
+             * rather than from the moment it was submitted.
+             */
+            @Override
+            public R get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+                if (state == QUEUED) {
+                    synchronized (this) {
+                        while (!started) {
+                            wait();
+                        }
+                    }
+                }
+                return super.get(timeout, unit);
+            }
+        }
+    }
+
+    /**
+     * A {@link TestExecutor} implementation that starts a new virtual thread for every body.
+     * <p>
+     * Virtual threads are cheap to create and release their carrier thread while blocked or sleeping,
+     * so tens of thousands of I/O-bound or sleeping bodies can be in flight at once.
+     * Cancelling the future of a running body interrupts its virtual thread.
+     * <p>
+     * A body that spins on the CPU while ignoring interruption keeps its carrier thread busy until it ends,
+     * so {@link Pooled} is the safer choice for CPU-bound code that may run away.
+     */
+    class VirtualThreads implements TestExecutor {
+        private final ThreadFactory threadFactory;
+        private final Set<Thread> running = ConcurrentHashMap.newKeySet();
+        private volatile boolean shutdown = false;
+
+        /**
+         * Creates an executor of virtual threads.
+         *
+         * @param threadNamePrefix The prefix used to name the virtual threads. Must not be null.
+         */
+        public VirtualThreads(String threadNamePrefix) {
+            Objects.requireNonNull(threadNamePrefix, "threadNamePrefix cannot be null");
+            this.threadFactory = Thread.ofVirtual().name(threadNamePrefix + "-", 1).factory(); // Factory is thread-safe
+        }
+
+        @Override
+        public <R> CompletableFuture<R> submit(Supplier<R> body) {
+            return start(new Task<>(Objects.requireNonNull(body, "body cannot be null"), Watchdog.NO_DEADLINE));
+        }
+
+        @Override
+        public <R> CompletableFuture<R> submit(Supplier<R> body, Duration timeout) {
+            return start(new Task<>(Objects.requireNonNull(body, "body cannot be null"), timeoutNanos(timeout)));
+        }
+
+        private <R> CompletableFuture<R> start(Task<R> task) {
+            if (shutdown) {
+                throw new RejectedExecutionException("TestExecutor has been shut down");
+            }
+            Thread thread = threadFactory.newThread(task);
+            task.thread = thread;
+            running.add(thread);
+            thread.start();
+            return task;
+        }
+
+        @Override
+        public void shutdown() {
+            shutdown = true;
+            running.forEach(Thread::interrupt);
+        }
+
+        /** A body running on its own virtual thread, which is also the future reporting its outcome. */
+        private final class Task<R> extends CompletableFuture<R> implements Runnable {
+            private final Supplier<R> body;
+            private final long timeoutNanos; // Watchdog.NO_DEADLINE if submitted without a timeout
+            private final Timing.Recorder recorder = Timing.Recorder.current(); // Created on the submitting thread
+            private final CountDownLatch started = new CountDownLatch(1);
+            private volatile Thread thread;
+
+            Task(Supplier<R> body, long timeoutNanos) {
+                this.body = body;
+                this.timeoutNanos = timeoutNanos;
+            }
+
+            @Override
+            public void run() {
+                started.countDown();
+                ScheduledFuture<?> deadline = (timeoutNanos == Watchdog.NO_DEADLINE) ? null : Watchdog.arm(timeoutNanos, this::expire);
+                long cpuAtStart = Timing.Recorder.startBody(recorder);
+                try {
+                    R value = body.get();
+                    Timing.Recorder.finishBody(recorder, cpuAtStart);
+                    complete(value);
+                } catch (Throwable t) {
+                    Timing.Recorder.finishBody(recorder, cpuAtStart);
+                    completeExceptionally(t);
+                } finally {
+                    if (deadline != null) {
+                        deadline.cancel(false); // Expiring now would find the future completed and do nothing
+                    }
+                    running.remove(thread);
+                }
+            }
+
+            // Watchdog action: times out the body and interrupts its thread, which runs nothing else
+            private void expire() {
+                if (completeExceptionally(new TimeoutException())) {
+                    thread.interrupt();
+                }
+            }
+
+            @Override
+            public boolean cancel(boolean mayInterruptIfRunning) {
+                boolean cancelled = super.cancel(mayInterruptIfRunning);
+                if (cancelled && mayInterruptIfRunning) {
+                    thread.interrupt(); // The thread runs nothing but this body, so no interrupt can leak
+                }
+                return cancelled;
+            }
+
+            /**
+             * Waits for the body to complete, counting the timeout from the moment its thread got to run.
+             */
+            @Override
+            public R get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+                started.await();
+                return super.get(timeout, unit);
+            }
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package test.unit;
 
+import java.time.Duration;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -33,7 +35,7 @@ public final class TestFactory {
             Supplier<T> toEvaluate,
             T expected,
             Function<T, String> mkString,
-            Optional<Integer> timeoutOverride) {
+            Optional<Duration> timeoutOverride) {
         return Equal.create(name, toEvaluate, expected, mkString, timeoutOverride);
     }
     // Overloads
@@ -45,6 +47,9 @@ public final class TestFactory {
     }
     public static <T> Equal<T> equal(String name, Supplier<T> toEvaluate, T expected, int timeoutOverride) {
         return Equal.create(name, toEvaluate, expected, timeoutOverride);
+    }
+    public static <T> Equal<T> equal(String name, Supplier<T> toEvaluate, T expected, Duration timeoutOverride) {
+        return Equal.create(name, toEvaluate, expected, defaultMkString(), Optional.of(timeoutOverride));
     }
      public static <T> Equal<T> equal(String name, Supplier<T> toEvaluate, T expected, Function<T, String> mkString, int timeoutOverride) {
         return Equal.create(name, toEvaluate, expected, mkString, timeoutOverride);
@@ -58,7 +63,7 @@ public final class TestFactory {
             T expected,
             BiPredicate<T, T> equalsFn,
             Function<T, String> mkString,
-            Optional<Integer> timeoutOverride) {
+            Optional<Duration> timeoutOverride) {
         return EqualBy.create(name, toEvaluate, expected, equalsFn, mkString, timeoutOverride);
     }
      // Overloads
@@ -71,6 +76,9 @@ public final class TestFactory {
     public static <T> EqualBy<T> equalBy(String name, Supplier<T> toEvaluate, T expected, BiPredicate<T, T> equalsFn, int timeoutOverride) {
         return EqualBy.create(name, toEvaluate, expected, equalsFn, timeoutOverride);
     }
+    public static <T> EqualBy<T> equalBy(String name, Supplier<T> toEvaluate, T expected, BiPredicate<T, T> equalsFn, Duration timeoutOverride) {
+        return EqualBy.create(name, toEvaluate, expected, equalsFn, defaultMkString(), Optional.of(timeoutOverride));
+    }
     public static <T> EqualBy<T> equalBy(String name, Supplier<T> toEvaluate, T expected, BiPredicate<T, T> equalsFn, Function<T, String> mkString, int timeoutOverride) {
          return EqualBy.create(name, toEvaluate, expected, equalsFn, mkString, timeoutOverride);
      }
@@ -84,7 +92,7 @@ public final class TestFactory {
             Predicate<T> property,
             Optional<Function<T, String>> mkStringOpt,
             Optional<String> helpOpt,
-            Optional<Integer> timeoutOverride) {
+            Optional<Duration> timeoutOverride) {
         return Property.create(name, toEvaluate, property, mkStringOpt, helpOpt, timeoutOverride);
     }
      // Overloads
@@ -103,6 +111,9 @@ public final class TestFactory {
      public static <T> Property<T> property(String name, Supplier<T> toEvaluate, Predicate<T> property, int timeoutOverride) {
          return Property.create(name, toEvaluate, property, timeoutOverride);
      }
+     public static <T> Property<T> property(String name, Supplier<T> toEvaluate, Predicate<T> property, Duration timeoutOverride) {
+         return Property.create(name, toEvaluate, property, Optional.empty(), Optional.empty(), Optional.of(timeoutOverride));
+     }
      public static <T> Property<T> property(String name, Supplier<T> toEvaluate, Predicate<T> property, Function<T, String> mkString, int timeoutOverride) {
           return Property.create(name, toEvaluate, property, mkString, timeoutOverride);
       }
@@ -120,7 +131,7 @@ public final class TestFactory {
     public static Assert assertTest(
             String name,
             Supplier<Boolean> toEvaluate,
-            Optional<Integer> timeoutOverride) {
+            Optional<Duration> timeoutOverride) {
         return Assert.create(name, toEvaluate, timeoutOverride);
     }
      // Overloads
@@ -130,12 +141,15 @@ public final class TestFactory {
     public static Assert assertTest(String name, Supplier<Boolean> toEvaluate, int timeoutOverride) {
         return Assert.create(name, toEvaluate, timeoutOverride);
     }
+    public static Assert assertTest(String name, Supplier<Boolean> toEvaluate, Duration timeoutOverride) {
+        return Assert.create(name, toEvaluate, Optional.of(timeoutOverride));
+    }
 
     /** Creates a {@link Refute} test verifying {@code toEvaluate.get()} is false. */
     public static Refute refuteTest(
             String name,
             Supplier<Boolean> toEvaluate,
-            Optional<Integer> timeoutOverride) {
+            Optional<Duration> timeoutOverride) {
         return Refute.create(name, toEvaluate, timeoutOverride);
     }
     // Overloads
@@ -145,6 +159,9 @@ public final class TestFactory {
     public static Refute refuteTest(String name, Supplier<Boolean> toEvaluate, int timeoutOverride) {
         return Refute.create(name, toEvaluate, timeoutOverride);
     }
+    public static Refute refuteTest(String name, Supplier<Boolean> toEvaluate, Duration timeoutOverride) {
+        return Refute.create(name, toEvaluate, Optional.of(timeoutOverride));
+    }
 
     // --- Exception Tests ---
 
@@ -159,7 +176,7 @@ public final class TestFactory {
             Supplier<T> toEvaluate,
             Function<T, String> mkString,
             Optional<String> expectedMessage,
-            Optional<Integer> timeoutOverride,
+            Optional<Duration> timeoutOverride,
             Class<E> expectedType) {
         return ExceptionFactory.create(name, toEvaluate, mkString, expectedMessage, timeoutOverride, expectedType);
     }
@@ -173,6 +190,9 @@ public final class TestFactory {
      public static <T, E extends Throwable> ExceptionOneOf<T> expectException(String name, Supplier<T> toEvaluate, int timeoutOverride, Class<E> expectedType) {
          return ExceptionFactory.create(name, toEvaluate, timeoutOverride, expectedType);
      }
+     public static <T, E extends Throwable> ExceptionOneOf<T> expectException(String name, Supplier<T> toEvaluate, Duration timeoutOverride, Class<E> expectedType) {
+         return ExceptionFactory.create(name, toEvaluate, defaultMkString(), Optional.empty(), Optional.of(timeoutOverride), expectedType);
+     }
      public static <T, E extends Throwable> ExceptionOneOf<T> expectException(String name, Supplier<T> toEvaluate, String expectedMessage, int timeoutOverride, Class<E> expectedType) {
          return ExceptionFactory.create(name, toEvaluate, expectedMessage, timeoutOverride, expectedType);
      }
@@ -192,7 +212,7 @@ public final class TestFactory {
             Optional<String> expectedMessage,
             Predicate<String> messagePredicate,
             Optional<String> predicateHelp,
-            Optional<Integer> timeoutOverride,
+            Optional<Duration> timeoutOverride,
             Class<? extends Throwable>... expectedTypes) {
         return ExceptionOneOf.create(name, toEvaluate, mkString, expectedMessage, messagePredicate, predicateHelp, timeoutOverride, expectedTypes);
     }
@@ -217,6 +237,10 @@ public final class TestFactory {
       public static <T> ExceptionOneOf<T> expectExceptionOneOf(String name, Supplier<T> toEvaluate, int timeoutOverride, Class<? extends Throwable>... expectedTypes) {
            return ExceptionOneOf.create(name, toEvaluate, timeoutOverride, expectedTypes);
        }
+      @SafeVarargs
+      public static <T> ExceptionOneOf<T> expectExceptionOneOf(String name, Supplier<T> toEvaluate, Duration timeoutOverride, Class<? extends Throwable>... expectedTypes) {
+           return ExceptionOneOf.create(name, toEvaluate, defaultMkString(), Optional.empty(), ExceptionBy.DEFAULT_MSG_PREDICATE, Optional.empty(), Optional.of(timeoutOverride), expectedTypes);
+       }
      // Add more timeout overloads if needed...
 
 
@@ -233,7 +257,7 @@ public final class TestFactory {
             Optional<String> expectedMessage,
             Predicate<String> messagePredicate,
             Optional<String> predicateHelp,
-            Optional<Integer> timeoutOverride,
+            Optional<Duration> timeoutOverride,
             Class<E> excludedType) {
         return ExceptionExcept.create(name, toEvaluate, mkString, expectedMessage, messagePredicate, predicateHelp, timeoutOverride, excludedType);
     }
@@ -253,6 +277,9 @@ public final class TestFactory {
       public static <T, E extends Throwable> ExceptionExcept<T, E> expectExceptionExcept(String name, Supplier<T> toEvaluate, int timeoutOverride, Class<E> excludedType) {
            return ExceptionExcept.create(name, toEvaluate, timeoutOverride, excludedType);
        }
+      public static <T, E extends Throwable> ExceptionExcept<T, E> expectExceptionExcept(String name, Supplier<T> toEvaluate, Duration timeoutOverride, Class<E> excludedType) {
+           return ExceptionExcept.create(name, toEvaluate, defaultMkString(), Optional.empty(), ExceptionBy.DEFAULT_MSG_PREDICATE, Optional.empty(), Optional.of(timeoutOverride), excludedType);
+       }
      // Add more timeout overloads if needed...
 
 
@@ -270,7 +297,7 @@ public final class TestFactory {
             Optional<String> expectedMessage,
             Predicate<String> messagePredicate,
             Optional<String> predicateHelp,
-            Optional<Integer> timeoutOverride) {
+            Optional<Duration> timeoutOverride) {
         return AnyExceptionButUnsupportedOperationExceptionFactory.create(name, toEvaluate, mkString, expectedMessage, messagePredicate, predicateHelp, timeoutOverride);
     }
      // Overloads for anyExceptionButUnsupportedOperationException
@@ -289,6 +316,165 @@ public final class TestFactory {
       public static <T> ExceptionExcept<T, UnsupportedOperationException> anyExceptionButUnsupportedOperationException(String name, Supplier<T> toEvaluate, int timeoutOverride) {
           return AnyExceptionButUnsupportedOperationExceptionFactory.create(name, toEvaluate, timeoutOverride);
       }
+      public static <T> ExceptionExcept<T, UnsupportedOperationException> anyExceptionButUnsupportedOperationException(String name, Supplier<T> toEvaluate, Duration timeoutOverride) {
+          return AnyExceptionButUnsupportedOperationExceptionFactory.create(name, toEvaluate, defaultMkString(), Optional.empty(), ExceptionBy.DEFAULT_MSG_PREDICATE, Optional.empty(), Optional.of(timeoutOverride));
+      }
      // Add more timeout overloads if needed...
 
+    // --- Asynchronous Tests ---
+    // The expression returns a CompletionStage of the value instead of the value itself (see AsyncEvaluation).
+    // No thread is blocked while the stage is pending, the timeout applies to the stage, and a stage completed
+    // exceptionally is checked exactly as if the expression had thrown the cause of its failure.
+
+    /** Creates an {@link Equal} test verifying the value of the stage returned by {@code toEvaluate} equals {@code expected}. */
+    public static <T> Equal<T> equalAsync(
+            String name,
+            Supplier<? extends CompletionStage<T>> toEvaluate,
+            T expected,
+            Function<T, String> mkString,
+            Optional<Duration> timeoutOverride) {
+        return Equal.create(name, new AsyncEvaluation<>(toEvaluate), expected, mkString, timeoutOverride);
+    }
+    // Overloads
+    public static <T> Equal<T> equalAsync(String name, Supplier<? extends CompletionStage<T>> toEvaluate, T expected) {
+        return equalAsync(name, toEvaluate, expected, defaultMkString(), Optional.empty());
+    }
+    public static <T> Equal<T> equalAsync(String name, Supplier<? extends CompletionStage<T>> toEvaluate, T expected, Function<T, String> mkString) {
+        return equalAsync(name, toEvaluate, expected, mkString, Optional.empty());
+    }
+    public static <T> Equal<T> equalAsync(String name, Supplier<? extends CompletionStage<T>> toEvaluate, T expected, Duration timeoutOverride) {
+        return equalAsync(name, toEvaluate, expected, defaultMkString(), Optional.of(timeoutOverride));
+    }
+
+    /** Creates an {@link EqualBy} test comparing the value of the stage returned by {@code toEvaluate} using a custom {@code equalsFn}. */
+    public static <T> EqualBy<T> equalByAsync(
+            String name,
+            Supplier<? extends CompletionStage<T>> toEvaluate,
+            T expected,
+            BiPredicate<T, T> equalsFn,
+            Function<T, String> mkString,
+            Optional<Duration> timeoutOverride) {
+        return EqualBy.create(name, new AsyncEvaluation<>(toEvaluate), expected, equalsFn, mkString, timeoutOverride);
+    }
+    // Overloads
+    public static <T> EqualBy<T> equalByAsync(String name, Supplier<? extends CompletionStage<T>> toEvaluate, T expected, BiPredicate<T, T> equalsFn) {
+        return equalByAsync(name, toEvaluate, expected, equalsFn, defaultMkString(), Optional.empty());
+    }
+    public static <T> EqualBy<T> equalByAsync(String name, Supplier<? extends CompletionStage<T>> toEvaluate, T expected, BiPredicate<T, T> equalsFn, Duration timeoutOverride) {
+        return equalByAsync(name, toEvaluate, expected, equalsFn, defaultMkString(), Optional.of(timeoutOverride));
+    }
+
+    /** Creates a {@link Property} test verifying the value of the stage returned by {@code toEvaluate} satisfies {@code property}. */
+    public static <T> Property<T> propertyAsync(
+            String name,
+            Supplier<? extends CompletionStage<T>> toEvaluate,
+            Predicate<T> property,
+            Optional<Function<T, String>> mkStringOpt,
+            Optional<String> helpOpt,
+            Optional<Duration> timeoutOverride) {
+        return Property.create(name, new AsyncEvaluation<>(toEvaluate), property, mkStringOpt, helpOpt, timeoutOverride);
+    }
+    // Overloads
+    public static <T> Property<T> propertyAsync(String name, Supplier<? extends CompletionStage<T>> toEvaluate, Predicate<T> property) {
+        return propertyAsync(name, toEvaluate, property, Optional.empty(), Optional.empty(), Optional.empty());
+    }
+    public static <T> Property<T> propertyAsync(String name, Supplier<? extends CompletionStage<T>> toEvaluate, Predicate<T> property, String help) {
+        return propertyAsync(name, toEvaluate, property, Optional.empty(), Optional.of(help), Optional.empty());
+    }
+    public static <T> Property<T> propertyAsync(String name, Supplier<? extends CompletionStage<T>> toEvaluate, Predicate<T> property, Duration timeoutOverride) {
+        return propertyAsync(name, toEvaluate, property, Optional.empty(), Optional.empty(), Optional.of(timeoutOverride));
+    }
+
+    /** Creates a test expecting the stage returned by {@code toEvaluate} to fail with a *specific* exception type {@code E}. */
+    public static <T, E extends Throwable> ExceptionOneOf<T> expectExceptionAsync(
+            String name,
+            Supplier<? extends CompletionStage<T>> toEvaluate,
+            Function<T, String> mkString,
+            Optional<String> expectedMessage,
+            Optional<Duration> timeoutOverride,
+            Class<E> expectedType) {
+        return ExceptionFactory.create(name, new AsyncEvaluation<>(toEvaluate), mkString, expectedMessage, timeoutOverride, expectedType);
+    }
+    // Overloads
+    public static <T, E extends Throwable> ExceptionOneOf<T> expectExceptionAsync(String name, Supplier<? extends CompletionStage<T>> toEvaluate, Class<E> expectedType) {
+        return expectExceptionAsync(name, toEvaluate, defaultMkString(), Optional.empty(), Optional.empty(), expectedType);
+    }
+    public static <T, E extends Throwable> ExceptionOneOf<T> expectExceptionAsync(String name, Supplier<? extends CompletionStage<T>> toEvaluate, String expectedMessage, Class<E> expectedType) {
+        return expectExceptionAsync(name, toEvaluate, defaultMkString(), Optional.of(expectedMessage), Optional.empty(), expectedType);
+    }
+    public static <T, E extends Throwable> ExceptionOneOf<T> expectExceptionAsync(String name, Supplier<? extends CompletionStage<T>> toEvaluate, Duration timeoutOverride, Class<E> expectedType) {
+        return expectExceptionAsync(name, toEvaluate, defaultMkString(), Optional.empty(), Optional.of(timeoutOverride), expectedType);
+    }
+
+    /** Creates an {@link ExceptionOneOf} test expecting the stage returned by {@code toEvaluate} to fail with one of {@code expectedTypes}. */
+    @SafeVarargs
+    public static <T> ExceptionOneOf<T> expectExceptionOneOfAsync(
+            String name,
+            Supplier<? extends CompletionStage<T>> toEvaluate,
+            Function<T, String> mkString,
+            Optional<String> expectedMessage,
+            Predicate<String> messagePredicate,
+            Optional<String> predicateHelp,
+            Optional<Duration> timeoutOverride,
+            Class<? extends Throwable>... expectedTypes) {
+        return ExceptionOneOf.create(name, new AsyncEvaluation<>(toEvaluate), mkString, expectedMessage, messagePredicate, predicateHelp, timeoutOverride, expectedTypes);
+    }
+    // Overloads
+    @SafeVarargs
+    public static <T> ExceptionOneOf<T> expectExceptionOneOfAsync(String name, Supplier<? extends CompletionStage<T>> toEvaluate, Class<? extends Throwable>... expectedTypes) {
+        return expectExceptionOneOfAsync(name, toEvaluate, defaultMkString(), Optional.empty(), ExceptionBy.DEFAULT_MSG_PREDICATE, Optional.empty(), Optional.empty(), expectedTypes);
+    }
+    @SafeVarargs
+    public static <T> ExceptionOneOf<T> expectExceptionOneOfAsync(String name, Supplier<? extends CompletionStage<T>> toEvaluate, String expectedMessage, Class<? extends Throwable>... expectedTypes) {
+        return expectExceptionOneOfAsync(name, toEvaluate, defaultMkString(), Optional.of(expectedMessage), ExceptionBy.DEFAULT_MSG_PREDICATE, Optional.empty(), Optional.empty(), expectedTypes);
+    }
+    @SafeVarargs
+    public static <T> ExceptionOneOf<T> expectExceptionOneOfAsync(String name, Supplier<? extends CompletionStage<T>> toEvaluate, Duration timeoutOverride, Class<? extends Throwable>... expectedTypes) {
+        return expectExceptionOneOfAsync(name, toEvaluate, defaultMkString(), Optional.empty(), ExceptionBy.DEFAULT_MSG_PREDICATE, Optional.empty(), Optional.of(timeoutOverride), expectedTypes);
+    }
+
+    /** Creates an {@link ExceptionExcept} test expecting the stage returned by {@code toEvaluate} to fail with any exception *except* {@code E}. */
+    public static <T, E extends Throwable> ExceptionExcept<T, E> expectExceptionExceptAsync(
+            String name,
+            Supplier<? extends CompletionStage<T>> toEvaluate,
+            Function<T, String> mkString,
+            Optional<String> expectedMessage,
+            Predicate<String> messagePredicate,
+            Optional<String> predicateHelp,
+            Optional<Duration> timeoutOverride,
+            Class<E> excludedType) {
+        return ExceptionExcept.create(name, new AsyncEvaluation<>(toEvaluate), mkString, expectedMessage, messagePredicate, predicateHelp, timeoutOverride, excludedType);
+    }
+    // Overloads
+    public static <T, E extends Throwable> ExceptionExcept<T, E> expectExceptionExceptAsync(String name, Supplier<? extends CompletionStage<T>> toEvaluate, Class<E> excludedType) {
+        return expectExceptionExceptAsync(name, toEvaluate, defaultMkString(), Optional.empty(), ExceptionBy.DEFAULT_MSG_PREDICATE, Optional.empty(), Optional.empty(), excludedType);
+    }
+    public static <T, E extends Throwable> ExceptionExcept<T, E> expectExceptionExceptAsync(String name, Supplier<? extends CompletionStage<T>> toEvaluate, String expectedMessage, Class<E> excludedType) {
+        return expectExceptionExceptAsync(name, toEvaluate, defaultMkString(), Optional.of(expectedMessage), ExceptionBy.DEFAULT_MSG_PREDICATE, Optional.empty(), Optional.empty(), excludedType);
+    }
+    public static <T, E extends Throwable> ExceptionExcept<T, E> expectExceptionExceptAsync(String name, Supplier<? extends CompletionStage<T>> toEvaluate, Duration timeoutOverride, Class<E> excludedType) {
+        return expectExceptionExceptAsync(name, toEvaluate, defaultMkString(), Optional.empty(), ExceptionBy.DEFAULT_MSG_PREDICATE, Optional.empty(), Optional.of(timeoutOverride), excludedType);
+    }
+
+    /** Creates a test expecting the stage returned by {@code toEvaluate} to fail with any exception *except* `UnsupportedOperationException`. */
+    public static <T> ExceptionExcept<T, UnsupportedOperationException> anyExceptionButUnsupportedOperationExceptionAsync(
+            String name,
+            Supplier<? extends CompletionStage<T>> toEvaluate,
+            Function<T, String> mkString,
+            Optional<String> expectedMessage,
+            Predicate<String> messagePredicate,
+            Optional<String> predicateHelp,
+            Optional<Duration> timeoutOverride) {
+        return AnyExceptionButUnsupportedOperationExceptionFactory.create(name, new AsyncEvaluation<>(toEvaluate), mkString, expectedMessage, messagePredicate, predicateHelp, timeoutOverride);
+    }
+    // Overloads
+    public static <T> ExceptionExcept<T, UnsupportedOperationException> anyExceptionButUnsupportedOperationExceptionAsync(String name, Supplier<? extends CompletionStage<T>> toEvaluate) {
+        return anyExceptionButUnsupportedOperationExceptionAsync(name, toEvaluate, defaultMkString(), Optional.empty(), ExceptionBy.DEFAULT_MSG_PREDICATE, Optional.empty(), Optional.empty());
+    }
+    public static <T> ExceptionExcept<T, UnsupportedOperationException> anyExceptionButUnsupportedOperationExceptionAsync(String name, Supplier<? extends CompletionStage<T>> toEvaluate, String expectedMessage) {
+        return anyExceptionButUnsupportedOperationExceptionAsync(name, toEvaluate, defaultMkString(), Optional.of(expectedMessage), ExceptionBy.DEFAULT_MSG_PREDICATE, Optional.empty(), Optional.empty());
+    }
+    public static <T> ExceptionExcept<T, UnsupportedOperationException> anyExceptionButUnsupportedOperationExceptionAsync(String name, Supplier<? extends CompletionStage<T>> toEvaluate, Duration timeoutOverride) {
+        return anyExceptionButUnsupportedOperationExceptionAsync(name, toEvaluate, defaultMkString(), Optional.empty(), ExceptionBy.DEFAULT_MSG_PREDICATE, Optional.empty(), Optional.of(timeoutOverride));
+    }
 }
@@ -0,0 +1,167 @@
+package test.unit;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The durations and failures of the tests in previous runs, kept in a local file (see {@link Config#historyFile()}),
+ * used to choose the order in which the tests of a suite are started.
+ * <p>
+ * Tests that failed in one of the last few runs are started first, the ones that failed most recently earliest, so
+ * that a failure shows up (and stops the run, with a limit of failures) as soon as possible. The other tests follow,
+ * cheapest first when they run one at a time, or longest first when they run in parallel, so that no long test is
+ * left to run alone at the end. Tests with no history are taken as likely to fail, being new or renamed.
+ * <p>
+ * The file is a {@link Properties} file with an entry per test, keyed by the names of its suite and itself.
+ * It is only a hint: if it cannot be read, tests are started in declaration order, and if it cannot be written,
+ * the next run just uses older data.
+ *
+ * @author Pepe Gallardo & Gemini
+ */
+final class TestHistory {
+
+    /** Number of runs during which a failed test is still started first. */
+    private static final int RECENT_RUNS = 3;
+
+    // The history of each file, shared by all the suites of the JVM using it
+    private static final Map<Path, TestHistory> HISTORIES = new ConcurrentHashMap<>();
+
+    /** What is known about a test: an estimate of its wall time, and how many runs ago it last failed. */
+    private record Entry(long nanos, int runsSinceFailure) {}
+
+    private final Path file;
+    private final Map<String, Entry> entries = new HashMap<>(); // Guarded by this
+
+    private TestHistory(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Gets the history kept in the given file, loading it on first use.
+     *
+     * @param file The file holding the history. It need not exist yet.
+     * @return The history.
+     */
+    static TestHistory of(Path file) {
+        Objects.requireNonNull(file, "file cannot be null");
+        return HISTORIES.computeIfAbsent(file.toAbsolutePath().normalize(), TestHistory::load);
+    }
+
+    private static TestHistory load(Path file) {
+        var history = new TestHistory(file);
+        if (Files.isReadable(file)) {
+            var properties = new Properties();
+            try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                properties.load(reader);
+                properties.forEach((key, value) -> {
+                    String[] fields = value.toString().split(",");
+                    if (fields.length == 2) {
+                        history.entries.put(key.toString(), new Entry(Long.parseLong(fields[0]), Integer.parseInt(fields[1])));
+                    }
+                });
+            } catch (IOException | IllegalArgumentException e) { // NumberFormatException included
+                history.entries.clear(); // Unreadable or corrupt history: start afresh
+            }
+        }
+        return history;
+    }
+
+    static String key(String suiteName, String testName) {
+        return suiteName + " / " + testName;
+    }
+
+    /**
+     * Chooses the order in which to start the given tests of a suite.
+     *
+     * @param suiteName The name of the suite.
+     * @param tests The tests to order, along with their indexes in the suite, in declaration order.
+     * @param parallel Whether several tests will run at once, so longer tests should start earlier.
+     * @return The indexes of the tests, in the order they should be started.
+     */
+    synchronized int[] order(String suiteName, List<Map.Entry<Integer, Test>> tests, boolean parallel) {
+        List<Map.Entry<Integer, Entry>> known = new ArrayList<>(tests.size());
+        for (var test : tests) {
+            known.add(Map.entry(test.getKey(), entries.getOrDefault(key(suiteName, test.getValue().getName()), new Entry(-1, 0))));
+        }
+        Comparator<Entry> byDuration = Comparator.comparingLong(Entry::nanos);
+        Comparator<Entry> byPriority = Comparator
+                .comparing((Entry entry) -> entry.runsSinceFailure() >= RECENT_RUNS) // Recently failed, or unknown, first
+                .thenComparingInt(Entry::runsSinceFailure) // The most recent failures first
+                .thenComparing(parallel ? byDuration.reversed() : byDuration);
+        return known.stream() // A stable sort, so ties keep declaration order
+                    .sorted(Map.Entry.comparingByValue(byPriority))
+                    .mapToInt(Map.Entry::getKey)
+                    .toArray();
+    }
+
+    /**
+     * Gets the estimated wall time of a test, if it has been run before.
+     *
+     * @param suiteName The name of the suite of the test.
+     * @param testName The name of the test.
+     * @return The estimated wall time, in nanoseconds, or empty if the test has no history.
+     */
+    synchronized OptionalLong estimatedNanos(String suiteName, String testName) {
+        Entry entry = entries.get(key(suiteName, testName));
+        return (entry == null || entry.nanos() < 0) ? OptionalLong.empty() : OptionalLong.of(entry.nanos());
+    }
+
+    /**
+     * Records the results of a run of a suite and saves the history to its file.
+     * Skipped tests, and tests stopped or never started because the suite ran out of its budget, are left as they
+     * were, since they say nothing about the test.
+     *
+     * @param results The results of the suite, which must have a name.
+     */
+    synchronized void record(Results results) {
+        String suiteName = results.getSuiteName().orElseThrow();
+        for (TimedResult timed : results.getTimedResults()) {
+            if (timed.result().isSkipped() || timed.result() instanceof TestResult.BudgetExhaustedFailure) {
+                continue;
+            }
+            String key = key(suiteName, timed.testName());
+            Entry previous = entries.get(key);
+            long nanos = timed.timing().wall().toNanos();
+            // Smooth the estimate, so that a single noisy run does not reorder the suite
+            long estimate = (previous == null || previous.nanos() < 0) ? nanos : (previous.nanos() + nanos) / 2;
+            int runsSinceFailure = timed.result().isSuccess()
+                    ? Math.min((previous == null) ? RECENT_RUNS : previous.runsSinceFailure() + 1, RECENT_RUNS)
+                    : 0;
+            entries.put(key, new Entry(estimate, runsSinceFailure));
+        }
+        save();
+    }
+
+    // Writes the whole history to a temporary file first, so a reader never sees it half written
+    private void save() {
+        var properties = new Properties();
+        entries.forEach((key, entry) -> properties.setProperty(key, entry.nanos() + "," + entry.runsSinceFailure()));
+        try {
+            Path directory = file.getParent();
+            if (directory != null) {
+                Files.createDirectories(directory);
+            }
+            Path temporary = Files.createTempFile(directory != null ? directory : Path.of("."), "history", ".tmp");
+            try (Writer writer = Files.newBufferedWriter(temporary, StandardCharsets.UTF_8)) {
+                properties.store(writer, "Durations (ns) and runs since last failure of tests");
+            }
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            // The history is only a hint for ordering, so a run never fails because of it
+        }
+    }
+}
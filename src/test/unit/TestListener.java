@@ -0,0 +1,51 @@
+package test.unit;
+
+/**
+ * Receives the events of a run of {@link TestSuite}s as they happen, so that reporters, dashboards or any other
+ * observer can follow the run without parsing its output or waiting for its {@link Results}.
+ * <p>
+ * Listeners are registered with {@link Config#withListener(TestListener, Config)}. All their methods are called
+ * on a single dispatcher thread, one event at a time and in the order the events happened, so implementations
+ * need no synchronization of their own; the threads running the tests only hand the events over. A listener that
+ * is slow only delays later events, and a listener that throws an exception does not stop the run. Events of
+ * a suite have all been delivered by the time its {@link TestSuite#run(Config)} returns.
+ * <p>
+ * The events of the tests of a suite come in the order they start and finish, which, with parallelism or a history
+ * file, need not be their declaration order. Tests skipped before starting, once a limit of failures is reached,
+ * are reported as started and finished at once. All methods do nothing by default.
+ *
+ * @author Pepe Gallardo & Gemini
+ */
+public interface TestListener {
+
+    /**
+     * Called when a suite starts.
+     *
+     * @param suiteName The name of the suite.
+     * @param testCount The number of tests of the suite that will be run.
+     */
+    default void suiteStarted(String suiteName, int testCount) {}
+
+    /**
+     * Called when a test is started.
+     *
+     * @param suiteName The name of the suite of the test.
+     * @param testName The name of the test.
+     */
+    default void testStarted(String suiteName, String testName) {}
+
+    /**
+     * Called when a test finishes, or is skipped.
+     *
+     * @param suiteName The name of the suite of the test.
+     * @param result The name, outcome and timing of the test.
+     */
+    default void testFinished(String suiteName, TimedResult result) {}
+
+    /**
+     * Called when a suite finishes.
+     *
+     * @param results The results of the suite, as returned by {@link TestSuite#run(Config)}.
+     */
+    default void suiteFinished(Results results) {}
+}
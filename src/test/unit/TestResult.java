@@ -1,5 +1,6 @@
 package test.unit;
 
+import java.time.Duration;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -9,18 +10,27 @@ import java.util.Optional;
  * like success, various types of failures (equality, property, exception-related, timeout), etc.
  * <p>
  * The {@code message(Config)} method provides a localized and potentially colored description
- * of the outcome, requiring a {@link Config} for formatting.
+ * of the outcome, requiring a {@link Config} for formatting. Failures only hold the raw data of
+ * the outcome (values, exceptions and {@link Description}s of the expectation), so nothing is
+ * formatted unless their message is actually requested.
  *
  * @author Pepe Gallardo & Gemini
  */
 public sealed interface TestResult
     permits TestResult.Success, TestResult.Failure, TestResult.PropertyFailure, TestResult.EqualityFailure,
             TestResult.NoExceptionFailure, TestResult.WrongExceptionTypeFailure, TestResult.WrongExceptionMessageFailure,
-            TestResult.WrongExceptionAndMessageFailure, TestResult.TimeoutFailure, TestResult.UnexpectedExceptionFailure {
+            TestResult.WrongExceptionAndMessageFailure, TestResult.TimeoutFailure, TestResult.BudgetExhaustedFailure, TestResult.UnexpectedExceptionFailure,
+            TestResult.RemoteFailure, TestResult.Skipped {
 
     /** Indicates whether this result represents a successful test execution. */
     boolean isSuccess();
 
+    /**
+     * Indicates whether this result represents a test that was skipped, rather than run to completion.
+     * A skipped test is neither a success nor a failure.
+     */
+    default boolean isSkipped() { return false; }
+
     /**
      * Generates a formatted message describing the test outcome.
      * Uses the {@code config} for localization (via {@code config.msg}) and
@@ -31,9 +41,34 @@ public sealed interface TestResult
      */
     String message(Config config);
 
+    /**
+     * A description of what a test expected, used in failure messages.
+     * It is only rendered when the message of a failure is requested (e.g., by a logger that prints it),
+     * so tests that pass, or whose output is discarded, never pay for formatting it.
+     */
+    @FunctionalInterface
+    interface Description {
+        /**
+         * Renders this description.
+         *
+         * @param config The configuration context providing localization and logger.
+         * @return The localized and potentially colored description.
+         */
+        String render(Config config);
+
+        /** Creates a description whose text is already known. */
+        static Description of(String text) {
+            Objects.requireNonNull(text, "text cannot be null");
+            return config -> text;
+        }
+    }
+
+    /** The result of every successful test execution, shared as it holds no data. */
+    Success SUCCESS = new Success();
+
     // --- Concrete Result Implementations ---
 
-    /** Represents a successful test execution. */
+    /** Represents a successful test execution. Use the shared {@link TestResult#SUCCESS} instance. */
     record Success() implements TestResult {
         @Override
         public boolean isSuccess() { return true; }
@@ -42,28 +77,54 @@ public sealed interface TestResult
         public String message(Config config) {
             var logger = config.logger();
             // Indented, bold, green "PASSED" message from I18n
-            return "\n   " + logger.bold(logger.green(config.msg("passed")));
+            return "\n   " + logger.bold(logger.green(config.msg(Message.PASSED)));
+        }
+    }
+
+    /**
+     * Represents a test that was not run, or was cancelled while running, because the limit of failures of
+     * its suite or of the whole run had been reached (see {@link Config#suiteMaxFailures()}).
+     */
+    record Skipped(
+        int maxFailures // The limit of failures that was reached
+    ) implements TestResult {
+        public Skipped {
+            if (maxFailures <= 0) throw new IllegalArgumentException("maxFailures must be positive");
+        }
+        @Override
+        public boolean isSuccess() { return false; }
+
+        @Override
+        public boolean isSkipped() { return true; }
+
+        @Override
+        public String message(Config config) {
+            var logger = config.logger();
+            // Indented, bold, blue "SKIPPED" marker, followed by the reason
+            return "\n   " + logger.bold(logger.blue(config.msg(Message.SKIPPED))) +
+                   "\n   " + config.msg(Message.SKIPPED_MAX_FAILURES, maxFailures);
         }
     }
 
     /** Base sealed interface for all failure results. */
     sealed interface Failure extends TestResult
         permits PropertyFailure, EqualityFailure, NoExceptionFailure, WrongExceptionTypeFailure,
-                WrongExceptionMessageFailure, WrongExceptionAndMessageFailure, TimeoutFailure, UnexpectedExceptionFailure {
+                WrongExceptionMessageFailure, WrongExceptionAndMessageFailure, TimeoutFailure, BudgetExhaustedFailure, UnexpectedExceptionFailure,
+                RemoteFailure {
 
         @Override
         default boolean isSuccess() { return false; }
 
         /** Helper to get the standard "FAILED!" marker, localized and colored red/bold. */
         default String failedMarker(Config config) {
-            return config.logger().bold(config.logger().red(config.msg("failed")));
+            return config.logger().bold(config.logger().red(config.msg(Message.FAILED)));
         }
     }
 
     /** Failure because a property predicate returned `false`. */
     record PropertyFailure<T>(
         java.util.function.Function<T, String> mkString, // Function to format the result T to String
-        String propertyDescription // Pre-formatted description of the expected property
+        Description propertyDescription // Description of the expected property
     ) implements Failure, TestResult {
         public PropertyFailure {
             // result can be null
@@ -75,7 +136,7 @@ public sealed interface TestResult
             var logger = config.logger();
             // Format the obtained result (colored red) using the provided mkString function
             return "\n   " + failedMarker(config) +
-                   "\n   " + propertyDescription;
+                   "\n   " + propertyDescription.render(config);
         }
     }
 
@@ -92,12 +153,11 @@ public sealed interface TestResult
         @Override
         public String message(Config config) {
             var logger = config.logger();
+            var out = new StringBuilder("\n   ").append(failedMarker(config)).append("\n   ");
             // Format expected (green) and actual (red) values
-            var expectedMsg = config.msg("expected.result", logger.green(mkString.apply(expected)));
-            var obtainedMsg = config.msg("obtained.result", logger.red(mkString.apply(actual)));
-            return "\n   " + failedMarker(config) +
-                   "\n   " + expectedMsg +
-                   "\n   " + obtainedMsg;
+            config.appendMsg(out, Message.EXPECTED_RESULT, logger.green(mkString.apply(expected))).append("\n   ");
+            config.appendMsg(out, Message.OBTAINED_RESULT, logger.red(mkString.apply(actual)));
+            return out.toString();
         }
     }
 
@@ -105,7 +165,7 @@ public sealed interface TestResult
     record NoExceptionFailure<T>(
         T result, // The value returned instead of an exception
         java.util.function.Function<T, String> mkString, // Function to format the result T to String
-        String expectedExceptionDescription // Pre-formatted description of the expected exception scenario
+        Description expectedExceptionDescription // Description of the expected exception scenario
     ) implements Failure, TestResult {
         public NoExceptionFailure {
              // result can be null
@@ -115,20 +175,19 @@ public sealed interface TestResult
         @Override
         public String message(Config config) {
             var logger = config.logger();
-            // Format the obtained result (red)
-            var obtainedMsg = config.msg("obtained.result", logger.red(mkString.apply(result)));
+            var out = new StringBuilder("\n   ").append(failedMarker(config)).append("\n   ");
             // Get the base "no exception" message, including the expected description
-            var baseMsg = config.msg("no.exception.basic", expectedExceptionDescription);
-            return "\n   " + failedMarker(config) +
-                   "\n   " + baseMsg +
-                   "\n   " + obtainedMsg;
+            config.appendMsg(out, Message.NO_EXCEPTION_BASIC, expectedExceptionDescription.render(config)).append("\n   ");
+            // Format the obtained result (red)
+            config.appendMsg(out, Message.OBTAINED_RESULT, logger.red(mkString.apply(result)));
+            return out.toString();
         }
     }
 
     /** Failure because an exception was thrown, but it was of the wrong type. */
     record WrongExceptionTypeFailure(
         Throwable thrown, // The actual exception that was thrown
-        String expectedExceptionDescription // Pre-formatted description of the expected exception scenario
+        Description expectedExceptionDescription // Description of the expected exception scenario
     ) implements Failure, TestResult {
          public WrongExceptionTypeFailure {
              Objects.requireNonNull(thrown, "thrown throwable cannot be null");
@@ -139,21 +198,20 @@ public sealed interface TestResult
             var logger = config.logger();
             // Get actual exception type name (red)
             var thrownName = logger.red(thrown.getClass().getSimpleName());
+            var out = new StringBuilder("\n   ").append(failedMarker(config)).append("\n   ");
             // Basic message indicating wrong type thrown
-            var wrongTypeMsg = config.msg("wrong.exception.type.basic", thrownName);
+            config.appendMsg(out, Message.WRONG_EXCEPTION_TYPE_BASIC, thrownName).append("\n   ");
             // Message indicating what was expected instead
-            var butExpectedMsg = config.msg("but.expected", expectedExceptionDescription);
-            return "\n   " + failedMarker(config) +
-                   "\n   " + wrongTypeMsg +
-                   "\n   " + butExpectedMsg;
+            config.appendMsg(out, Message.BUT_EXPECTED, expectedExceptionDescription.render(config));
+            return out.toString();
         }
     }
 
     /** Failure because the correct type of exception was thrown, but its message did not match expectations. */
     record WrongExceptionMessageFailure(
         Throwable thrown, // The actual exception (correct type, wrong message)
-        String expectedExceptionDescription, // Pre-formatted overall description of the expected scenario (includes type)
-        Optional<String> detailedExpectation // Pre-formatted detail about *why* the message failed
+        Description expectedExceptionDescription, // Overall description of the expected scenario (includes type)
+        Optional<Description> detailedExpectation // Detail about *why* the message failed
     ) implements Failure, TestResult {
          public WrongExceptionMessageFailure {
              Objects.requireNonNull(thrown, "thrown throwable cannot be null");
@@ -169,9 +227,10 @@ public sealed interface TestResult
             var thrownMsg = String.valueOf(thrown.getMessage());
             var actualMsgStr = logger.red("\"" + thrownMsg + "\"");
             // Basic message indicating correct type but wrong message
-            var wrongMsgBasic = config.msg("wrong.exception.message.basic", thrownName, actualMsgStr);
+            var wrongMsgBasic = config.msg(Message.WRONG_EXCEPTION_MESSAGE_BASIC, thrownName, actualMsgStr);
             // Get the specific reason for message failure, or a fallback if not provided
-            var detailPart = detailedExpectation.orElse("(Reason for message failure not specified)");
+            var detailPart = detailedExpectation.map(detail -> detail.render(config))
+                                                .orElse("(Reason for message failure not specified)");
             return "\n   " + failedMarker(config) +
                    "\n   " + wrongMsgBasic +
                    "\n   " + detailPart; // Appends the detailed reason
@@ -181,7 +240,7 @@ public sealed interface TestResult
     /** Failure because both the type and the message of the thrown exception were incorrect. */
     record WrongExceptionAndMessageFailure(
         Throwable thrown, // The actual exception (wrong type and message)
-        String expectedExceptionDescription // Pre-formatted description of the expected scenario
+        Description expectedExceptionDescription // Description of the expected scenario
     ) implements Failure, TestResult {
          public WrongExceptionAndMessageFailure {
              Objects.requireNonNull(thrown, "thrown throwable cannot be null");
@@ -195,23 +254,23 @@ public sealed interface TestResult
             // Get actual message, handle null, format as red quoted string
             var thrownMsg = String.valueOf(thrown.getMessage());
             var actualMsgStr = logger.red("\"" + thrownMsg + "\"");
+            var out = new StringBuilder("\n   ").append(failedMarker(config)).append("\n   ");
             // Basic message indicating wrong type and message thrown
-            var wrongAllMsg = config.msg("wrong.exception.and.message.basic", thrownName, actualMsgStr);
+            config.appendMsg(out, Message.WRONG_EXCEPTION_AND_MESSAGE_BASIC, thrownName, actualMsgStr).append("\n   ");
             // Message indicating what was expected instead
-            var butExpectedMsg = config.msg("but.expected", expectedExceptionDescription);
-            return "\n   " + failedMarker(config) +
-                   "\n   " + wrongAllMsg +
-                   "\n   " + butExpectedMsg;
+            config.appendMsg(out, Message.BUT_EXPECTED, expectedExceptionDescription.render(config));
+            return out.toString();
         }
     }
 
     /** Failure because the test execution exceeded the allowed time limit. */
     record TimeoutFailure(
-        int timeout, // The timeout duration in seconds that was exceeded
-        String expectedBehaviorDescription // Pre-formatted description of what the test was expected to do
+        Duration timeout, // The timeout duration that was exceeded
+        Description expectedBehaviorDescription // Description of what the test was expected to do
     ) implements Failure, TestResult {
          public TimeoutFailure {
-             if (timeout <= 0) throw new IllegalArgumentException("timeout must be positive");
+             Objects.requireNonNull(timeout, "timeout cannot be null");
+             if (timeout.isNegative() || timeout.isZero()) throw new IllegalArgumentException("timeout must be positive");
              Objects.requireNonNull(expectedBehaviorDescription, "expectedBehaviorDescription cannot be null");
          }
         /**
@@ -221,16 +280,34 @@ public sealed interface TestResult
         @Override
         public String message(Config config) {
             // Use the specific I18n key "timeout", passing the expected behavior and duration
-            var timeoutMsg = config.msg("timeout", expectedBehaviorDescription, timeout);
+            var timeoutMsg = config.msg(Message.TIMEOUT, expectedBehaviorDescription.render(config), config.formatDuration(timeout));
             return "\n   " + failedMarker(config) +
                    "\n   " + timeoutMsg; // Combine marker and formatted timeout message
         }
     }
 
+    /** Failure because the time budget of the suite was exhausted before the test could complete, or even start. */
+    record BudgetExhaustedFailure(
+        Duration budget // The total time budget of the suite
+    ) implements Failure, TestResult {
+         public BudgetExhaustedFailure {
+             Objects.requireNonNull(budget, "budget cannot be null");
+         }
+        /**
+         * Formats a budget exhausted failure message.
+         * Uses the I18n key "budget.exhausted".
+         */
+        @Override
+        public String message(Config config) {
+            return "\n   " + failedMarker(config) +
+                   "\n   " + config.msg(Message.BUDGET_EXHAUSTED, config.formatDuration(budget));
+        }
+    }
+
     /** Failure due to an unexpected exception occurring during test execution. */
     record UnexpectedExceptionFailure(
         Throwable thrown, // The unexpected exception that was caught
-        String originalExpectationDescription // Pre-formatted description of what the test was originally trying to achieve
+        Description originalExpectationDescription // Description of what the test was originally trying to achieve
     ) implements Failure, TestResult {
         public UnexpectedExceptionFailure {
             Objects.requireNonNull(thrown, "thrown throwable cannot be null");
@@ -245,9 +322,27 @@ public sealed interface TestResult
             var thrownMsg = String.valueOf(thrown.getMessage());
             var actualMsgStr = logger.red("\"" + thrownMsg + "\"");
             // Construct the message using the "unexpected.exception" key
-            var unexpectedMsg = config.msg("unexpected.exception", originalExpectationDescription, thrownName, actualMsgStr);
+            var unexpectedMsg = config.msg(Message.UNEXPECTED_EXCEPTION, originalExpectationDescription.render(config), thrownName, actualMsgStr);
             return "\n   " + failedMarker(config) +
                    "\n   " + unexpectedMsg;
         }
     }
+
+    /**
+     * Failure reported by a test that was executed in another JVM (see {@link Isolation}).
+     * The message was already rendered there, using the language and color support of the requesting run.
+     */
+    record RemoteFailure(
+        String kind, // Simple name of the failure record produced remotely (e.g., "EqualityFailure")
+        String renderedMessage // Message produced remotely by the original failure's message(Config)
+    ) implements Failure, TestResult {
+        public RemoteFailure {
+            Objects.requireNonNull(kind, "kind cannot be null");
+            Objects.requireNonNull(renderedMessage, "renderedMessage cannot be null");
+        }
+        @Override
+        public String message(Config config) {
+            return renderedMessage;
+        }
+    }
 }
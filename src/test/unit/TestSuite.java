@@ -1,6 +1,16 @@
 package test.unit;
 
+import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -56,47 +66,362 @@ public final class TestSuite { // Made final
     }
 
     /**
-     * Runs all the {@link Test} cases contained within this suite sequentially,
-     * using the provided {@link Config}.
+     * Runs all the {@link Test} cases contained within this suite, using the provided {@link Config}.
+     * <p>
+     * If {@code config.parallelism()} is greater than one, up to that many tests are executed concurrently.
+     * Otherwise, they are executed sequentially. With {@code config.batching()}, consecutive tests are grouped
+     * into batches, each one run by a single task of the executor. In all cases, output is produced and results are collected
+     * in declaration order, so the returned {@link Results} do not depend on the execution mode.
      *
      * @param config The {@link Config} object for this run. Must not be null.
      * @return A {@link Results} object summarizing the outcomes.
      */
     public Results run(Config config) {
+        return Test.join(runAsync(config).toCompletableFuture());
+    }
+
+    private Results run(Config config, FailureLimit runLimit) {
+        return Test.join(runAsync(config, runLimit).toCompletableFuture());
+    }
+
+    /**
+     * Runs all the {@link Test} cases contained within this suite as {@link #run(Config)} does, without blocking
+     * the calling thread while they execute.
+     * <p>
+     * The header of the suite is logged right away. Each test is started when the previous one completes
+     * (or, if {@code config.parallelism()} is greater than one, as soon as fewer than that many tests are
+     * running), and its output is logged and its result aggregated by the thread that completes it.
+     * The returned stage is completed, after logging the summary of the suite, once all tests have completed
+     * and the {@link TestListener}s of the configuration, if any, have been told that the suite finished.
+     * <p>
+     * Once {@code config.suiteMaxFailures()} or {@code config.runMaxFailures()} tests have failed, the tests still
+     * running are cancelled, and they and the ones not started yet are reported as {@link TestResult.Skipped}.
+     *
+     * @param config The {@link Config} object for this run. Must not be null.
+     * @return A stage completed with the {@link Results} summarizing the outcomes.
+     */
+    public CompletionStage<Results> runAsync(Config config) {
         Objects.requireNonNull(config, "Config cannot be null for running suite");
+        return runAsync(config, new FailureLimit(config.runMaxFailures()));
+    }
+
+    // Runs this suite as part of a run whose failures are counted against the given limit
+    private CompletionStage<Results> runAsync(Config config, FailureLimit runLimit) {
         var logger = config.logger();
 
         // 1. Log Suite Header
-        String headerMessage = config.msg("suite.for", this.name);
+        String headerMessage = config.msg(Message.SUITE_FOR, this.name);
         if (logger.supportsAnsiColors()) {
             logger.println(logger.underline(logger.bold(logger.blue(headerMessage))));
         } else {
             logger.println(headerMessage);
             logger.println("=".repeat(headerMessage.length())); // Simple underline
         }
+        int testCount = (int) items.stream().filter(item -> item instanceof Test).count();
+        ListenerDispatcher.publish(config.listeners(), listener -> listener.suiteStarted(name, testCount));
+
+        // 2. Run Individual Tests and Collect Results, within the suite budget if any
+        Optional<Long> deadline = config.suiteBudget().map(budget -> System.nanoTime() + budget.toNanos());
+        CompletableFuture<Results> run = new OrderedRun(config, deadline, runLimit).start().thenApply(testResultsList -> {
+            // 3. Aggregate Results, keeping them for ordering later runs if asked to
+            Results results = Results.ofTimed(this.name, testResultsList);
+            config.historyFile().ifPresent(file -> TestHistory.of(file).record(results));
+            ListenerDispatcher.publish(config.listeners(), listener -> listener.suiteFinished(results));
+
+            // 4. Log Suite Summary
+            logger.println(String.format("\n%s\n", results.mkString(config))); // Add newlines
+
+            // 5. Flush Logger, waiting for it if it writes asynchronously
+            logger.flushFully();
+
+            // 6. Return Aggregated Results
+            return results;
+        });
+        if (config.listeners().isEmpty()) {
+            return run;
+        }
+        // Complete once the listeners know about the whole suite, but not on the dispatcher, which must never wait
+        return run.thenCompose(results -> ListenerDispatcher.delivered(config.listeners())
+                                                            .thenApplyAsync(ignored -> results));
+    }
+
+    /**
+     * Drives one run of the items of this suite, keeping up to {@code config.parallelism()} tests in flight.
+     * <p>
+     * No thread waits for a test to complete: completing a test just signals the driver, which then replays
+     * finished tests in declaration order (interleaved with {@link InfoMessage} items) and starts the next ones.
+     * Signals are serialized by a work-in-progress counter, so the driver never runs on two threads at once, and
+     * a signal raised while it is running makes it loop once more rather than run concurrently. When more than one
+     * test may be in flight, each one writes to its own {@link Logger.BufferedLogger}, so the output is identical
+     * to that of a sequential run.
+     * <p>
+     * The driver runs on a small pool of runner threads rather than on the threads completing the tests, which may
+     * be the watchdog of the {@link TestExecutor}. Tests that do not submit their body to the executor run their whole
+     * logic when started, on a runner, so with parallelism they still run concurrently; the other tests occupy
+     * a runner only while their body is being submitted.
+     * <p>
+     * With {@code config.batching()}, tests are started in {@link TestBatch batches} instead, each one counting as a
+     * single unit of the parallelism and signalling the driver once all of its tests have completed. The size of the
+     * next batch is adapted to the measured duration of the tests of the last one, but a batch never takes more than
+     * its share of the remaining tests, so that all units of the parallelism get some work.
+     * <p>
+     * With {@code config.historyFile()}, tests are started in the order chosen by their {@link TestHistory}, rather
+     * than in declaration order, and always buffered, since they are replayed in declaration order anyway.
+     * <p>
+     * When a limit of failures is reached, the driver stops starting tests and cancels the ones in flight (whole
+     * batches included). From then on, each test that has not completed is replayed as skipped, with no output
+     * other than the skip itself.
+     */
+    private final class OrderedRun {
+        private final Config config;
+        private final Optional<Long> deadline;
+        private final int window; // Maximum number of tests (or batches) in flight
+        private final boolean buffered; // Whether each test writes to its own buffer
+        private final ExecutorService runners;
+        private final List<CompletableFuture<TimedResult>> started; // Per item, null until its test starts
+        private final List<Optional<Logger.BufferedLogger>> outputs; // Per item, the buffer of its test if any
+        private final List<TimedResult> testResults = new ArrayList<>();
+        private final CompletableFuture<List<TimedResult>> completion = new CompletableFuture<>();
+        private final AtomicInteger pendingSignals = new AtomicInteger();
+        private final AtomicInteger running = new AtomicInteger();
+        private final AtomicInteger batchSize = new AtomicInteger(TestBatch.INITIAL_SIZE);
+        private final FailureLimit suiteLimit;
+        private final FailureLimit runLimit;
+        private final boolean limited; // Whether results must be recorded against some limit
+        private final boolean listened; // Whether tests starting and finishing must be published to listeners
+        private final List<TestBatch> batches = new ArrayList<>(); // Batches that may be in flight, only touched by the driver
+        private Optional<TestResult.Skipped> skipping = Optional.empty(); // Set by the driver once a limit is reached
+        private final int[] startOrder; // Indexes of the tests, in the order they are started
+        private int testsToStart; // Only touched by the driver
+        private int nextToStart = 0; // Position in startOrder of the next test to start, only touched by the driver
+        private int nextToReplay = 0; // Index of the next item to replay, only touched by the driver
+
+        OrderedRun(Config config, Optional<Long> deadline, FailureLimit runLimit) {
+            this.config = config;
+            this.deadline = deadline;
+            this.suiteLimit = new FailureLimit(config.suiteMaxFailures());
+            this.runLimit = runLimit;
+            this.limited = suiteLimit.isLimited() || runLimit.isLimited();
+            this.listened = !config.listeners().isEmpty();
+            List<Map.Entry<Integer, Test>> tests = new ArrayList<>();
+            for (int index = 0; index < items.size(); index++) {
+                if (items.get(index) instanceof Test test) {
+                    tests.add(Map.entry(index, test));
+                }
+            }
+            this.testsToStart = tests.size();
+            this.window = Math.max(1, Math.min(config.parallelism(), testsToStart));
+            this.startOrder = config.historyFile()
+                    .map(file -> TestHistory.of(file).order(name, tests, window > 1))
+                    .orElseGet(() -> tests.stream().mapToInt(Map.Entry::getKey).toArray());
+            boolean reordered = config.historyFile().isPresent();
+            // Nothing to buffer when output is discarded. Tests of a batch may complete out of order, so they always need it
+            this.buffered = (window > 1 || config.batching() || reordered) && !config.logger().discardsOutput();
+            this.runners = newRunnerPool(window);
+            this.started = new ArrayList<>(Collections.nCopies(items.size(), null));
+            this.outputs = new ArrayList<>(Collections.nCopies(items.size(), Optional.empty()));
+        }
+
+        CompletableFuture<List<TimedResult>> start() {
+            if (limited) { // Wake up the driver as soon as a limit is reached, even if no test of this suite completes then
+                suiteLimit.reached().applyToEither(runLimit.reached(), Function.identity())
+                        .thenRunAsync(this::signal, runners);
+            }
+            runners.execute(this::signal);
+            return completion;
+        }
+
+        // Runs the driver on this thread, unless it is already running on some thread, which will then loop once more
+        private void signal() {
+            if (pendingSignals.getAndIncrement() == 0) {
+                do {
+                    drive();
+                } while (pendingSignals.decrementAndGet() != 0);
+            }
+        }
 
-        // 2. Run Individual Tests and Collect Results
-        List<TestResult> testResultsList =
-            this.items.stream()
-                .<TestResult>mapMulti((item, out) -> {
-                    switch (item) {
-                        case Test test -> out.accept(test.run(config));   // a Test, run it and collect the result
-                        case InfoMessage msg -> msg.print(config);        // an InfoMessage, just print it
+        private void drive() {
+            if (completion.isDone()) {
+                return;
+            }
+            try {
+                // 0. Stop everything in flight once a limit of failures is reached
+                if (limited && skipping.isEmpty()) {
+                    Optional.ofNullable(suiteLimit.reached().getNow(null))
+                            .or(() -> Optional.ofNullable(runLimit.reached().getNow(null)))
+                            .ifPresent(this::stop);
+                }
+
+                // 1. Replay output and collect results in declaration order, as far as tests have completed
+                while (nextToReplay < items.size() && replay(nextToReplay)) {
+                    nextToReplay++;
+                }
+                if (nextToReplay == items.size()) {
+                    completion.complete(testResults);
+                    return;
+                }
+
+                // 2. Start more tests, up to the window
+                while (skipping.isEmpty() && testsToStart > 0 && running.get() < window) {
+                    running.incrementAndGet();
+                    CompletableFuture<?> unit = config.batching() ? startBatch() : startNextTest();
+                    unit.whenCompleteAsync((result, failure) -> {
+                        running.decrementAndGet();
+                        signal();
+                    }, runners);
+                }
+            } catch (Throwable t) {
+                completion.completeExceptionally(t);
+            }
+        }
+
+        // Replays the item at the given index, returning false if it is a test that has not completed yet
+        private boolean replay(int index) {
+            switch (items.get(index)) {
+                case Test test -> {
+                    CompletableFuture<TimedResult> pending = started.get(index);
+                    if (pending == null && skipping.isPresent()) { // Never started
+                        publishStarted(test);
+                        testResults.add(publishFinished(test.skip(config, skipping.get())));
+                        return true;
                     }
-                })
-                .toList();
+                    if (pending == null || !pending.isDone()) {
+                        return false;
+                    }
+                    if (pending.isCancelled()) { // Stopped in flight, so its partial output is dropped
+                        testResults.add(publishFinished(test.skip(config, skipping.orElseThrow())));
+                    } else {
+                        TimedResult result = Test.join(pending); // Rethrows the exception of a failed test
+                        outputs.get(index).ifPresent(Logger.BufferedLogger::replay);
+                        testResults.add(result);
+                    }
+                    started.set(index, null); // Release the outcome and its buffer
+                    outputs.set(index, Optional.empty());
+                }
+                case InfoMessage msg -> msg.print(config);
+            }
+            return true;
+        }
 
-        // 3. Aggregate Results
-        Results results = new Results(testResultsList);
+        // Stops starting tests, and cancels the ones in flight
+        private void stop(TestResult.Skipped skipped) {
+            skipping = Optional.of(skipped);
+            batches.forEach(TestBatch::cancel);
+            batches.clear();
+            for (int index = nextToReplay; index < items.size(); index++) {
+                CompletableFuture<TimedResult> pending = started.get(index);
+                if (pending != null) {
+                    pending.cancel(true);
+                }
+            }
+        }
 
-        // 4. Log Suite Summary
-        logger.println(String.format("\n%s\n", results.mkString(config))); // Add newlines
+        // Records the result of a test against the limits of failures, and publishes it, as soon as it completes
+        private void track(int index, CompletableFuture<TimedResult> result) {
+            started.set(index, result);
+            if (limited) {
+                result.thenAccept(timed -> {
+                    suiteLimit.record(timed.result());
+                    runLimit.record(timed.result());
+                });
+            }
+            if (listened) {
+                result.thenAccept(this::publishFinished);
+            }
+        }
 
-        // 5. Flush Logger
-        logger.flush();
+        // Moves to the next test to start, returning its index
+        private int nextTest() {
+            testsToStart--;
+            int index = startOrder[nextToStart++];
+            publishStarted((Test) items.get(index));
+            return index;
+        }
+
+        private void publishStarted(Test test) {
+            if (listened) {
+                ListenerDispatcher.publish(config.listeners(), listener -> listener.testStarted(name, test.getName()));
+            }
+        }
+
+        private TimedResult publishFinished(TimedResult result) {
+            if (listened) {
+                ListenerDispatcher.publish(config.listeners(), listener -> listener.testFinished(name, result));
+            }
+            return result;
+        }
+
+        // Creates the buffer of the test at the given index, if output is buffered
+        private Optional<Logger.BufferedLogger> bufferFor(int index) {
+            Optional<Logger.BufferedLogger> buffer = buffered
+                    ? Optional.of(new Logger.BufferedLogger(config.logger()))
+                    : Optional.empty();
+            outputs.set(index, buffer);
+            return buffer;
+        }
+
+        private CompletableFuture<TimedResult> startNextTest() {
+            int index = nextTest();
+            Test test = (Test) items.get(index);
+            Config testConfig = bufferFor(index).<Config>map(output -> Config.withLogger(output, config)).orElse(config);
+            CompletableFuture<TimedResult> result;
+            if (window == 1) { // The driver is already on a runner, and nothing else could run meanwhile
+                try {
+                    result = test.runTimedAsync(testConfig, deadline);
+                } catch (Throwable t) {
+                    result = CompletableFuture.failedFuture(t);
+                }
+            } else {
+                CompletableFuture<TimedResult> relayed = new CompletableFuture<>(); // Unlike a composed future, cancels the test
+                runners.execute(() -> {
+                    try {
+                        Test.relay(test.runTimedAsync(testConfig, deadline), relayed);
+                    } catch (Throwable t) {
+                        relayed.completeExceptionally(t);
+                    }
+                });
+                result = relayed;
+            }
+            track(index, result);
+            return result;
+        }
 
-        // 6. Return Aggregated Results
-        return results;
+        private CompletableFuture<Void> startBatch() {
+            int fairShare = (testsToStart + window - 1) / window;
+            int size = Math.min(batchSize.get(), fairShare);
+            int[] indexes = new int[size];
+            List<Test> tests = new ArrayList<>(size);
+            List<Optional<Logger.BufferedLogger>> buffers = new ArrayList<>(size);
+            for (int position = 0; position < size; position++) {
+                indexes[position] = nextTest();
+                tests.add((Test) items.get(indexes[position]));
+                buffers.add(bufferFor(indexes[position]));
+            }
+            TestBatch batch = new TestBatch(config, tests, buffers, deadline);
+            for (int position = 0; position < size; position++) {
+                track(indexes[position], batch.outcome(position));
+            }
+            batches.removeIf(running -> running.done().isDone());
+            batches.add(batch);
+            batch.start();
+            // Adapt the size of later batches once the tests of this one have been measured
+            return batch.done().whenComplete((ignored, failure) -> batchSize.set(TestBatch.nextSize(size, batch.nanosPerTest())));
+        }
+    }
+
+    /**
+     * Creates the pool of daemon runner threads of a suite run. Idle runners exit after a short while,
+     * so the pool never needs to be shut down, even if tests are still completing after the run has failed.
+     */
+    private static ExecutorService newRunnerPool(int size) {
+        AtomicInteger threadCounter = new AtomicInteger();
+        var pool = new ThreadPoolExecutor(size, size, 1, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "suite-runner-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true); // Never keep the JVM alive because of a runaway test
+            return thread;
+        });
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
     }
 
     // --- Static Utility Methods for Running Multiple Suites ---
@@ -116,6 +441,7 @@ public final class TestSuite { // Made final
         int totalTests = allResults.stream().mapToInt(Results::getTotal).sum();
         int totalPassed = allResults.stream().mapToInt(Results::getPassed).sum();
         int totalFailed = allResults.stream().mapToInt(Results::getFailed).sum();
+        int totalSkipped = allResults.stream().mapToInt(Results::getSkipped).sum();
         double overallRate = (totalTests == 0) ? 1.0 : (double) totalPassed / totalTests;
 
         var logger = config.logger();
@@ -123,17 +449,25 @@ public final class TestSuite { // Made final
         // Print the formatted summary block
         String separator = logger.bold(logger.blue("=".repeat(40)));
         logger.println(separator);
-        logger.println(logger.bold(logger.blue(config.msg("summary.title"))));
+        logger.println(logger.bold(logger.blue(config.msg(Message.SUMMARY_TITLE))));
         logger.println(separator);
-        logger.println(config.msg("summary.suites.run", totalSuites));
-        logger.println(config.msg("summary.total.tests", totalTests));
+        logger.println(config.msg(Message.SUMMARY_SUITES_RUN, totalSuites));
+        logger.println(config.msg(Message.SUMMARY_TOTAL_TESTS, totalTests));
         logger.println(String.format("%s: %s",
-                capitalize(config.msg("results.passed")), // Capitalize label
+                capitalize(config.msg(Message.RESULTS_PASSED)), // Capitalize label
                 logger.green(Integer.toString(totalPassed))));
         logger.println(String.format("%s: %s",
-                capitalize(config.msg("results.failed")), // Capitalize label
+                capitalize(config.msg(Message.RESULTS_FAILED)), // Capitalize label
                 logger.red(Integer.toString(totalFailed))));
-        logger.println(config.msg("summary.success.rate", overallRate * 100.0)); // Format rate
+        if (totalSkipped > 0) {
+            logger.println(String.format("%s: %s",
+                    capitalize(config.msg(Message.RESULTS_SKIPPED)),
+                    logger.blue(Integer.toString(totalSkipped))));
+        }
+        logger.println(config.msg(Message.SUMMARY_SUCCESS_RATE, overallRate * 100.0)); // Format rate
+        if (config.slowestTests() > 0) {
+            printSlowestTests(allResults, config);
+        }
         logger.println(separator);
         logger.println(); // Extra newline
         logger.flush();
@@ -142,6 +476,30 @@ public final class TestSuite { // Made final
         if (config.csvOutput()) {
             printCSVSummary(allResults, config);
         }
+        logger.flushFully(); // The run is over, so everything must be out by now
+    }
+
+    /**
+     * Prints the slowest tests across all the suites, by decreasing wall time, along with their CPU and queued times.
+     *
+     * @param allResults A list of {@link Results} objects, one per suite run.
+     * @param config The {@link Config} whose {@code slowestTests} sets how many tests are listed.
+     */
+    private static void printSlowestTests(List<Results> allResults, Config config) {
+        var logger = config.logger();
+        List<String> entries = allResults.stream()
+                .flatMap(results -> results.getSlowest(config.slowestTests()).stream()
+                        .map(timed -> Map.entry(results.getSuiteName().map(suite -> suite + " / ").orElse("") + timed.testName(), timed.timing())))
+                .sorted(Map.Entry.<String, Timing>comparingByValue(Comparator.comparing(Timing::wall)).reversed())
+                .limit(config.slowestTests())
+                .map(entry -> config.msg(Message.SUMMARY_SLOWEST_ENTRY, entry.getKey(),
+                        Timing.format(entry.getValue().wall()),
+                        Timing.format(entry.getValue().cpu()),
+                        Timing.format(entry.getValue().queued())))
+                .toList();
+
+        logger.println(config.msg(Message.SUMMARY_SLOWEST, entries.size()));
+        entries.forEach(entry -> logger.println("  " + entry));
     }
 
     public static void printCSVSummary(List<Results> allResults, Config config) {
@@ -173,7 +531,7 @@ public final class TestSuite { // Made final
 
         logger.println(
                 allResults.stream()
-                        .map(r -> String.format(Locale.US, "%.3f", (double) r.getPassed() / r.getTotal()))
+                        .map(r -> String.format(Locale.US, "%.3f", r.getSuccessRate()))
                         .collect(Collectors.joining(";"))
         );
 
@@ -190,8 +548,16 @@ public final class TestSuite { // Made final
 
 
     /**
-     * Runs multiple {@link TestSuite} instances sequentially using a specified {@link Config}.
+     * Runs multiple {@link TestSuite} instances using a specified {@link Config}.
      * After all suites have finished, it prints an overall summary report.
+     * <p>
+     * If {@code config.suiteParallelism()} is greater than one, up to that many suites are run concurrently
+     * (see {@link #runAllParallel(Config, TestSuite...)}). Otherwise, they are run sequentially.
+     * In both cases, output is produced and results are collected in suite order.
+     * <p>
+     * If {@code config.shard()} is present, only the tests of that {@link Shard} are run, the summary covers only
+     * them, and their results are saved to the results file of the shard, to be merged with those of the other
+     * shards by {@link #mergeShards(Config, Path...)}.
      *
      * @param config The {@link Config} to use for running suites and printing the summary. Must not be null.
      * @param testSuites The {@link TestSuite} instances to run (varargs). Must not be null or contain nulls.
@@ -204,10 +570,22 @@ public final class TestSuite { // Made final
              throw new NullPointerException("TestSuite array cannot contain null suites");
          }
 
-        // Run each suite sequentially, collecting their Results objects
-        List<Results> allResults = Stream.of(testSuites)
-                .map(suite -> suite.run(config))
-                .collect(Collectors.toList()); // Collect to mutable list first
+        // Restrict each suite to the tests of the shard, if any
+        TestSuite[] suitesToRun = config.shard()
+                .map(shard -> Stream.of(testSuites).map(suite -> suite.restrictedTo(shard)).toArray(TestSuite[]::new))
+                .orElse(testSuites);
+
+        // Run each suite, collecting their Results objects in suite order.
+        // Failures of all the suites count against the limit of the run, if any
+        FailureLimit runLimit = new FailureLimit(config.runMaxFailures());
+        List<Results> allResults = (config.suiteParallelism() > 1 && testSuites.length > 1)
+                ? runAllParallel(config, runLimit, suitesToRun)
+                : Stream.of(suitesToRun)
+                    .map(suite -> suite.run(config, runLimit))
+                    .collect(Collectors.toList()); // Collect to mutable list first
+
+        // Save the results of the shard before printing anything else, so they are kept even if printing fails
+        config.shard().ifPresent(shard -> ShardResults.save(shard, List.of(testSuites), allResults, config));
 
         // Print the final overall summary
         printAllResultsSummary(allResults, config);
@@ -216,6 +594,93 @@ public final class TestSuite { // Made final
         return List.copyOf(allResults);
     }
 
+    /** The outcome of a suite run in parallel, along with the output it produced. */
+    private record SuiteOutcome(Results results, Optional<Logger.BufferedLogger> output) {}
+
+    /**
+     * Runs the given suites concurrently on a bounded pool of {@code config.suiteParallelism()} threads.
+     * <p>
+     * Each suite writes to its own {@link Logger.BufferedLogger}. As soon as a suite and all the ones before it
+     * have completed, its whole buffer is replayed at once on the configured logger, so the output of different
+     * suites is never interleaved and comes out in suite order.
+     *
+     * @param config The {@link Config} to use for running suites.
+     * @param runLimit The limit of failures of the whole run.
+     * @param testSuites The suites to run.
+     * @return The {@link Results} of each suite, in suite order.
+     */
+    private static List<Results> runAllParallel(Config config, FailureLimit runLimit, TestSuite... testSuites) {
+        var logger = config.logger();
+
+        AtomicInteger threadCounter = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(Math.min(config.suiteParallelism(), testSuites.length), runnable -> {
+            Thread thread = new Thread(runnable, "suite-worker-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+            // 1. Submit every suite, each one logging into its own buffer
+            List<CompletableFuture<SuiteOutcome>> outcomes = new ArrayList<>(testSuites.length);
+            for (TestSuite suite : testSuites) {
+                outcomes.add(CompletableFuture.supplyAsync(() -> {
+                    if (logger.discardsOutput()) { // Nothing to buffer and replay
+                        return new SuiteOutcome(suite.run(config, runLimit), Optional.empty());
+                    }
+                    var buffer = new Logger.BufferedLogger(logger);
+                    Results results = suite.run(Config.withLogger(buffer, config), runLimit);
+                    return new SuiteOutcome(results, Optional.of(buffer));
+                }, pool));
+            }
+
+            // 2. Flush buffers and collect results in suite order, as suites complete
+            List<Results> allResults = new ArrayList<>(testSuites.length);
+            for (CompletableFuture<SuiteOutcome> pending : outcomes) {
+                SuiteOutcome outcome = Test.join(pending);
+                outcome.output().ifPresent(Logger.BufferedLogger::replay);
+                allResults.add(outcome.results());
+            }
+            return allResults;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    // Gets a copy of this suite with only the tests of the given shard, and all its other items
+    private TestSuite restrictedTo(Shard shard) {
+        return new TestSuite(name, items.stream()
+                                        .filter(item -> !(item instanceof Test test) || shard.owns(name, test.getName()))
+                                        .toList());
+    }
+
+    /**
+     * Merges the results files saved by all the shards of a run (see {@link Shard}) and prints the overall summary
+     * report of the whole run, as {@link #runAll(Config, TestSuite...)} would have done running every shard at once.
+     * The results of the tests of each suite are in declaration order, whatever shard ran them. If
+     * {@code config.historyFile()} is present, they are recorded there, so that the next run can be planned with
+     * {@link ShardPlan}.
+     *
+     * @param config The {@link Config} used for printing the summary. Must not be null.
+     * @param resultsFiles The results files of the shards, one per shard, in any order. Must not be null.
+     * @return An immutable list containing the merged {@link Results} of each suite, in suite order.
+     * @throws IllegalArgumentException If the files are not the results of exactly the shards of one run.
+     * @throws java.io.UncheckedIOException If a file cannot be read.
+     */
+    public static List<Results> mergeShards(Config config, List<Path> resultsFiles) {
+        Objects.requireNonNull(config, "Config cannot be null for mergeShards");
+        List<Results> allResults = ShardResults.merge(resultsFiles);
+        // The whole run is known only now, so this is where its durations are kept for planning the next one
+        config.historyFile().ifPresent(file -> allResults.forEach(TestHistory.of(file)::record));
+        printAllResultsSummary(allResults, config);
+        return List.copyOf(allResults);
+    }
+
+    /** Overload for mergeShards taking the results files as varargs. */
+    public static List<Results> mergeShards(Config config, Path... resultsFiles) {
+        Objects.requireNonNull(resultsFiles, "resultsFiles array cannot be null");
+        return mergeShards(config, List.of(resultsFiles));
+    }
+
     /**
      * Runs multiple {@link TestSuite} instances sequentially using the default configuration (`Config.DEFAULT`).
      * After all suites have finished, it prints an overall summary report using the default configuration.
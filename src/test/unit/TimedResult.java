@@ -0,0 +1,24 @@
+package test.unit;
+
+import java.util.Objects;
+
+/**
+ * Associates the {@link TestResult} of a test with the name of the test and the {@link Timing} of its execution.
+ * These are the entries kept by {@link Results}.
+ *
+ * @param testName The name of the test that produced the result.
+ * @param result The outcome of the test.
+ * @param timing The measured durations of the test execution.
+ * @author Pepe Gallardo & Gemini
+ */
+public record TimedResult(String testName, TestResult result, Timing timing) {
+
+    /**
+     * Canonical constructor with validations. This is invoked automatically.
+     */
+    public TimedResult {
+        Objects.requireNonNull(testName, "testName cannot be null");
+        Objects.requireNonNull(result, "result cannot be null");
+        Objects.requireNonNull(timing, "timing cannot be null");
+    }
+}
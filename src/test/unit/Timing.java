@@ -0,0 +1,152 @@
+package test.unit;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Holds the measured durations of a single execution of a {@link Test}.
+ * Captured by {@link Test#runTimed(Config)} (or {@link Test#runAsync(Config)}) and kept, per test, by {@link Results}.
+ *
+ * @param wall The elapsed time from the moment the body of the test started running until it finished,
+ *             or until the test stopped waiting for it (e.g., on timeout).
+ * @param cpu The CPU time consumed by the thread running the body. Zero if it could not be measured
+ *            (e.g., on virtual threads, or if the body was abandoned before finishing).
+ * @param queued The time between the start of the test and the moment its body actually started running,
+ *               such as time spent waiting for a free worker of the {@link TestExecutor}.
+ * @author Pepe Gallardo & Gemini
+ */
+public record Timing(Duration wall, Duration cpu, Duration queued) {
+
+    /**
+     * Canonical constructor with validations. This is invoked automatically.
+     */
+    public Timing {
+        Objects.requireNonNull(wall, "wall cannot be null");
+        Objects.requireNonNull(cpu, "cpu cannot be null");
+        Objects.requireNonNull(queued, "queued cannot be null");
+    }
+
+    /** Timing of a result for which nothing was measured. */
+    public static final Timing NONE = new Timing(Duration.ZERO, Duration.ZERO, Duration.ZERO);
+
+    /**
+     * Formats a duration in milliseconds with microsecond resolution (e.g., "12.345 ms").
+     *
+     * @param duration The duration to format. Must not be null.
+     * @return The formatted duration.
+     */
+    public static String format(Duration duration) {
+        return String.format(Locale.ROOT, "%.3f ms", duration.toNanos() / 1_000_000.0);
+    }
+
+    /**
+     * Collects the timestamps of one test execution.
+     * <p>
+     * {@link Test} binds a recorder to the thread running the test. A {@link TestExecutor} picks it up
+     * in {@code submit} and reports when the body starts and finishes on the worker thread. If no body is
+     * reported (e.g., a test evaluating everything on the calling thread), the whole execution is measured
+     * on the calling thread instead.
+     */
+    static final class Recorder {
+        private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+        private static final ThreadLocal<Recorder> CURRENT = new ThreadLocal<>();
+
+        private final Thread startThread = Thread.currentThread();
+        private final long startNanos = System.nanoTime();
+        private final long startCpuNanos = currentThreadCpuNanos();
+        private volatile long bodyStartNanos = -1;
+        private volatile long bodyEndNanos = -1;
+        private volatile long bodyCpuNanos = -1;
+
+        private Recorder() {}
+
+        /** Creates a recorder and binds it to the current thread. */
+        static Recorder start() {
+            Recorder recorder = new Recorder();
+            CURRENT.set(recorder);
+            return recorder;
+        }
+
+        /** Gets the recorder bound to the current thread, or {@code null} if no test is being timed on it. */
+        static Recorder current() {
+            return CURRENT.get();
+        }
+
+        /** Called on the thread running the body, right before it starts. Returns the CPU time of that thread. */
+        long bodyStarted() {
+            bodyStartNanos = System.nanoTime();
+            return currentThreadCpuNanos();
+        }
+
+        /** Called on the thread running the body, right after it finishes. */
+        void bodyFinished(long cpuAtStart) {
+            long cpuNow = currentThreadCpuNanos();
+            bodyCpuNanos = (cpuAtStart < 0 || cpuNow < 0) ? -1 : cpuNow - cpuAtStart;
+            bodyEndNanos = System.nanoTime();
+        }
+
+        /**
+         * Reports the start of a body on the current thread to the given recorder, if the body is being timed.
+         *
+         * @param recorder The recorder of the test the body belongs to, or {@code null}.
+         * @return The CPU time of the current thread, to be handed to {@link #finishBody}, or -1.
+         */
+        static long startBody(Recorder recorder) {
+            return (recorder != null) ? recorder.bodyStarted() : -1;
+        }
+
+        /**
+         * Reports the end of a body on the current thread to the given recorder, if the body is being timed.
+         * Called before the future of the body is completed, so that the test sees its timing along with its outcome.
+         *
+         * @param recorder The recorder of the test the body belongs to, or {@code null}.
+         * @param cpuAtStart What {@link #startBody} returned.
+         */
+        static void finishBody(Recorder recorder, long cpuAtStart) {
+            if (recorder != null) {
+                recorder.bodyFinished(cpuAtStart);
+            }
+        }
+
+        /**
+         * Called when the stage of an asynchronous body completes, which may be long after the call that started it.
+         * The CPU time reported for the call is kept, since the work done by the stage cannot be attributed to a thread.
+         */
+        void bodyCompleted() {
+            bodyEndNanos = System.nanoTime();
+        }
+
+        /**
+         * Unbinds this recorder from the current thread. Called as soon as the test has handed its body over
+         * to the executor, so the thread is free to start other tests while this one is still running.
+         */
+        void unbind() {
+            CURRENT.set(null); // Keeps the entry of the thread, so binding the next recorder allocates nothing
+        }
+
+        /** Returns the measured timing. Called once the outcome of the test is known, on any thread. */
+        Timing finish() {
+            long now = System.nanoTime();
+            long bodyStart = bodyStartNanos;
+            if (bodyStart < 0) { // No body was reported, so the test is measured as a whole
+                // CPU time is only meaningful if the test also completed on the thread that started it
+                long cpuNow = Thread.currentThread() == startThread ? currentThreadCpuNanos() : -1;
+                long cpu = (startCpuNanos < 0 || cpuNow < 0) ? 0 : cpuNow - startCpuNanos;
+                return new Timing(Duration.ofNanos(now - startNanos), Duration.ofNanos(cpu), Duration.ZERO);
+            }
+            long bodyEnd = bodyEndNanos;
+            long cpu = bodyCpuNanos;
+            return new Timing(Duration.ofNanos((bodyEnd < 0 ? now : bodyEnd) - bodyStart),
+                              Duration.ofNanos(bodyEnd < 0 || cpu < 0 ? 0 : cpu),
+                              Duration.ofNanos(bodyStart - startNanos));
+        }
+
+        // CPU time of the current thread, or -1 if it cannot be measured (e.g., virtual threads)
+        private static long currentThreadCpuNanos() {
+            return THREADS.isCurrentThreadCpuTimeSupported() ? THREADS.getCurrentThreadCpuTime() : -1;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package test.unit;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tracks the deadlines of all the test bodies in flight, on a single shared daemon thread.
+ * <p>
+ * A {@link TestExecutor} arms a deadline when a guarded body starts running and disarms it when the body
+ * finishes. When a deadline expires, its action runs on the watchdog thread, completing the future of the body
+ * and interrupting it, so no thread has to block waiting for a test to time out. Disarmed deadlines are removed
+ * from the queue right away, so tens of thousands of bodies can be tracked without piling up cancelled timers.
+ *
+ * @author Pepe Gallardo & Gemini
+ */
+final class Watchdog {
+
+    /** Timeout of a body submitted without one, for which no deadline is armed. */
+    static final long NO_DEADLINE = -1;
+
+    private static final ScheduledThreadPoolExecutor TIMER = createTimer();
+
+    private Watchdog() {}
+
+    private static ScheduledThreadPoolExecutor createTimer() {
+        var timer = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "test-watchdog");
+            thread.setDaemon(true); // Never keep the JVM alive because of a pending deadline
+            return thread;
+        });
+        timer.setRemoveOnCancelPolicy(true); // Disarmed deadlines leave the queue immediately
+        return timer;
+    }
+
+    /**
+     * Arms a deadline.
+     *
+     * @param nanos The time, in nanoseconds from now, after which {@code onExpiry} runs.
+     * @param onExpiry The action to run if the deadline is not disarmed in time. It must be quick and never block.
+     * @return The deadline, to be disarmed with {@code cancel(false)} once it is no longer needed.
+     */
+    static ScheduledFuture<?> arm(long nanos, Runnable onExpiry) {
+        return TIMER.schedule(onExpiry, nanos, TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,375 @@
+package test.unit;
+
+import java.io.*;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the tests of a {@link SuiteProvider} on a pool of worker JVMs of the local machine, which take tests from
+ * the coordinating JVM as they become idle and talk to it over Unix domain sockets.
+ * <p>
+ * As with {@link Isolation}, {@link #suites()} returns mirrors of the provider's suites, which are run like any other
+ * suite, so logging, failure limits and {@link Results} work as usual. But a mirrored test holds no thread of the
+ * coordinator while it runs: starting it just queues it on the worker its suite is assigned to, and the test
+ * completes when that worker sends its result back. Each worker takes the tests queued on it in order, which keeps
+ * the tests of a suite together in the same JVM, and when it runs out of them it steals the last test queued on
+ * another worker, so no worker is idle while tests are waiting. Run the mirrors with a parallelism larger than the
+ * number of workers, so that enough tests are queued to keep every worker busy.
+ * <p>
+ * A worker that dies, or runs a test past its timeout, is killed and replaced by a fresh JVM, and only the test it
+ * was running fails. Anything test code writes to {@code System.out} in a worker is redirected to its standard
+ * error, which the coordinator inherits.
+ * <pre>{@code
+ * try (var pool = WorkerPool.start(MySuites.class, 4)) {
+ *     TestSuite.runAll(Config.withParallelism(8, config), pool.suites());
+ * }
+ * }</pre>
+ * Frames are those of {@link ForkedWorker}, except that each worker connects to a socket of the coordinator and
+ * introduces itself with {@link ForkedWorker#READY} followed by the {@code int} number it was spawned with.
+ *
+ * @author Pepe Gallardo & Gemini
+ */
+public final class WorkerPool implements AutoCloseable {
+
+    /** Extra time granted to a worker, on top of the test timeout, before it is considered stuck and killed. */
+    private static final long KILL_GRACE_MILLIS = 1000;
+
+    /** Maximum time allowed for a worker JVM to start, build its suites and connect. */
+    private static final long STARTUP_TIMEOUT_SECONDS = 60;
+
+    /** A test waiting to be run by a worker, and the future completed with its result. */
+    private record Unit(int suiteIndex, int itemIndex, Config config,
+                        CompletableFuture<TestResult> outcome, TestResult.Description description) {}
+
+    private final String providerClassName;
+    private final List<TestSuite> suites;
+    private final Path socketFile;
+    private final ServerSocketChannel server;
+    private final List<Slot> slots = new ArrayList<>();
+    private final Semaphore queued = new Semaphore(0); // A permit per unit queued on any slot
+    private final Map<Integer, CompletableFuture<SocketChannel>> connecting = new ConcurrentHashMap<>(); // By spawn number
+    private final AtomicInteger spawned = new AtomicInteger();
+    private volatile boolean closed = false;
+
+    private WorkerPool(Class<? extends SuiteProvider> providerClass, int workers) throws IOException {
+        this.providerClassName = providerClass.getName();
+        SuiteProvider provider;
+        try {
+            provider = providerClass.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException("SuiteProvider needs a public no-argument constructor: " + providerClassName, e);
+        }
+        this.suites = MirroredTest.mirror(provider.suites(), PooledTest::new);
+
+        // A fresh directory only its owner can access, so no other user can connect in place of a worker
+        this.socketFile = Files.createTempDirectory("test-pool").resolve("pool.socket");
+        this.server = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+        server.bind(UnixDomainSocketAddress.of(socketFile));
+        Thread.ofPlatform().daemon().name("test-pool-acceptor").start(this::accept);
+
+        for (int i = 0; i < workers; i++) {
+            slots.add(new Slot(i));
+        }
+        for (Slot slot : slots) {
+            slot.thread = Thread.ofPlatform().daemon().name("test-pool-worker-" + slot.number).start(slot::run);
+        }
+    }
+
+    /**
+     * Starts the worker JVMs for the given provider.
+     *
+     * @param providerClass The {@link SuiteProvider} whose suites are to be run. Must not be null.
+     * @param workers The number of worker JVMs (must be positive), usually the number of available cores.
+     * @return The new pool. Close it to kill the workers.
+     * @throws IOException If the socket of the pool could not be opened.
+     */
+    public static WorkerPool start(Class<? extends SuiteProvider> providerClass, int workers) throws IOException {
+        Objects.requireNonNull(providerClass, "providerClass cannot be null");
+        if (workers <= 0) {
+            throw new IllegalArgumentException("workers must be positive");
+        }
+        return new WorkerPool(providerClass, workers);
+    }
+
+    /** Gets the mirrors of the provider's suites, whose tests run in the worker JVMs. */
+    public TestSuite[] suites() {
+        return suites.toArray(TestSuite[]::new);
+    }
+
+    /**
+     * Kills all the worker JVMs. Tests still queued fail, and mirrors started from then on fail right away.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        for (Slot slot : slots) {
+            slot.thread.interrupt();
+            slot.kill();
+        }
+        try {
+            server.close();
+            Files.deleteIfExists(socketFile);
+            Files.deleteIfExists(socketFile.getParent());
+        } catch (IOException e) {
+            // Only a leftover temporary file
+        }
+        // Queued units are left in place, as a slot may be looking for them right now, and will just skip them
+        for (Slot slot : slots) {
+            slot.units.forEach(this::reject);
+        }
+    }
+
+    private void reject(Unit unit) {
+        unit.outcome().complete(new TestResult.UnexpectedExceptionFailure(
+                new IllegalStateException("The worker pool is closed"), unit.description()));
+    }
+
+    // Queues a unit on the slot of its suite, where any idle slot may steal it
+    private void submit(Unit unit) {
+        if (closed) {
+            reject(unit);
+            return;
+        }
+        slots.get(unit.suiteIndex() % slots.size()).units.addLast(unit);
+        queued.release();
+    }
+
+    // Hands every incoming connection to the slot that spawned the worker making it
+    private void accept() {
+        while (server.isOpen()) {
+            SocketChannel channel = null;
+            try {
+                channel = server.accept();
+                var in = new DataInputStream(Channels.newInputStream(channel)); // Unbuffered: the slot reads what follows
+                CompletableFuture<SocketChannel> waiting = (in.readInt() == ForkedWorker.READY) ? connecting.get(in.readInt()) : null;
+                if (waiting == null || !waiting.complete(channel)) {
+                    channel.close();
+                }
+            } catch (IOException e) {
+                // The pool was closed, or a worker died while connecting and its slot will time out
+                if (channel != null) {
+                    try {
+                        channel.close();
+                    } catch (IOException ignored) {
+                        // Already unusable
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * A worker of the pool: the JVM currently serving it, the units queued on it, and the thread feeding them
+     * to the JVM one at a time. The JVM is replaced whenever it can no longer be trusted.
+     */
+    private final class Slot {
+        private final int number;
+        private final Deque<Unit> units = new ConcurrentLinkedDeque<>();
+        private Thread thread;
+        private volatile Process process; // Null until spawned, and after being killed
+        private volatile SocketChannel channel;
+        private Unit running; // The unit being executed by the JVM, if any. Guarded by this slot
+        private DataInputStream in; // Only touched by the thread of the slot
+        private DataOutputStream out;
+
+        Slot(int number) {
+            this.number = number;
+        }
+
+        void run() {
+            try {
+                connect(); // Start the JVM right away, rather than with the first test
+            } catch (IOException e) {
+                // Tried again for the first test, which then fails if the JVM cannot be started
+            }
+            while (!closed) {
+                Unit unit;
+                try {
+                    unit = take();
+                } catch (InterruptedException e) {
+                    return; // Closed
+                }
+                unit.outcome().complete(execute(unit));
+            }
+        }
+
+        // Takes the first unit queued on this slot or, if there is none, steals the last one queued on another slot
+        private Unit take() throws InterruptedException {
+            while (true) {
+                queued.acquire(); // From then on, some slot holds a unit reserved for this one
+                Unit unit = units.pollFirst();
+                for (int i = 1; unit == null; i++) {
+                    unit = slots.get((number + i) % slots.size()).units.pollLast();
+                }
+                if (!unit.outcome().isDone()) { // Cancelled while queued, e.g., by a limit of failures
+                    return unit;
+                }
+            }
+        }
+
+        private TestResult execute(Unit unit) {
+            Duration timeout = unit.config().timeout();
+            var stuck = new AtomicBoolean(false);
+            ScheduledFuture<?> deadline = null;
+            try {
+                if (channel == null) {
+                    connect();
+                }
+                synchronized (this) {
+                    running = unit;
+                }
+                deadline = Watchdog.arm(timeout.toNanos() + TimeUnit.MILLISECONDS.toNanos(KILL_GRACE_MILLIS), () -> {
+                    stuck.set(true);
+                    killRunning(unit); // Ends the read below
+                });
+                unit.outcome().whenComplete((result, failure) -> {
+                    if (unit.outcome().isCancelled()) {
+                        killRunning(unit); // Nobody waits for the test anymore, which is stopped for good
+                    }
+                });
+
+                ForkedWorker.writeRequest(out, unit.suiteIndex(), unit.itemIndex(), unit.config());
+                out.flush();
+
+                ForkedWorker.Response response = ForkedWorker.readResponse(in);
+                if (response.success()) {
+                    return TestResult.SUCCESS;
+                }
+                if (response.kind().equals(TestResult.TimeoutFailure.class.getSimpleName())) {
+                    kill(); // The test may still be burning CPU in the worker
+                    return new TestResult.TimeoutFailure(timeout, unit.description());
+                }
+                return new TestResult.RemoteFailure(response.kind(), response.renderedMessage());
+            } catch (IOException e) {
+                kill();
+                return stuck.get() ? new TestResult.TimeoutFailure(timeout, unit.description())
+                                   : new TestResult.UnexpectedExceptionFailure(e, unit.description());
+            } finally {
+                synchronized (this) {
+                    running = null; // From now on, the hooks of this unit must not kill the JVM, which may run the next one
+                }
+                if (deadline != null) {
+                    deadline.cancel(false);
+                }
+            }
+        }
+
+        // Kills the JVM, unless it has finished the given unit and may already be running another one
+        private synchronized void killRunning(Unit unit) {
+            if (running == unit) {
+                kill();
+            }
+        }
+
+        // Spawns a worker JVM and waits for it to connect to the pool
+        private void connect() throws IOException {
+            int spawnNumber = spawned.incrementAndGet();
+            var connection = new CompletableFuture<SocketChannel>();
+            connecting.put(spawnNumber, connection);
+            try {
+                String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+                process = new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"), WorkerPool.class.getName(),
+                                             socketFile.toString(), Integer.toString(spawnNumber), providerClassName)
+                        .redirectOutput(ProcessBuilder.Redirect.DISCARD) // Only native code can still write there
+                        .redirectError(ProcessBuilder.Redirect.INHERIT)
+                        .start();
+                if (closed) {
+                    throw new IOException("The worker pool is closed");
+                }
+                channel = connection.get(STARTUP_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            } catch (IOException e) {
+                kill();
+                throw e;
+            } catch (ExecutionException | TimeoutException e) {
+                kill();
+                throw new IOException("Worker JVM did not connect to the pool", e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                kill();
+                throw new InterruptedIOException("Interrupted while starting a worker JVM");
+            } finally {
+                connecting.remove(spawnNumber);
+            }
+            in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+            out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)));
+        }
+
+        // Kills the JVM of this slot, if any, so that the next unit starts a fresh one. Safe from any thread.
+        void kill() {
+            Process dying = process;
+            SocketChannel closing = channel;
+            process = null;
+            channel = null;
+            if (dying != null) {
+                dying.destroyForcibly();
+            }
+            if (closing != null) {
+                try {
+                    closing.close(); // A read blocked on it fails at once
+                } catch (IOException e) {
+                    // Already unusable
+                }
+            }
+        }
+    }
+
+    /**
+     * A test standing for a test of the provider, which it queues on the pool instead of executing it.
+     */
+    private final class PooledTest extends MirroredTest {
+
+        PooledTest(Test original, int suiteIndex, int itemIndex) {
+            super(original, suiteIndex, itemIndex);
+        }
+
+        @Override
+        protected TestResult executeTest(Config config) {
+            return await(executeTestAsync(config), this::expectationDescription);
+        }
+
+        @Override
+        protected CompletableFuture<TestResult> executeTestAsync(Config config) {
+            var outcome = new CompletableFuture<TestResult>();
+            submit(new Unit(suiteIndex, itemIndex, config, outcome, this::expectationDescription));
+            return outcome;
+        }
+    }
+
+    // --- Worker side ---
+
+    /**
+     * Entry point of a worker JVM.
+     *
+     * @param args The path of the socket of the pool, the number the worker was spawned with, and the fully
+     *             qualified name of the {@link SuiteProvider} to use.
+     * @throws Exception If the provider cannot be instantiated or the pool cannot be reached.
+     */
+    public static void main(String[] args) throws Exception {
+        // As in ForkedWorker: test output goes to the standard error, out of the way of the console report
+        System.setOut(System.err);
+        SuiteProvider provider = (SuiteProvider) Class.forName(args[2]).getDeclaredConstructor().newInstance();
+        List<TestSuite> suites = provider.suites();
+
+        SocketChannel channel = SocketChannel.open(UnixDomainSocketAddress.of(args[0]));
+        var toPool = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)));
+        var fromPool = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+        toPool.writeInt(ForkedWorker.READY);
+        toPool.writeInt(Integer.parseInt(args[1]));
+        toPool.flush();
+        ForkedWorker.serve(suites, fromPool, toPool);
+    }
+}